@@ -0,0 +1,34 @@
+package net.jokubasdargis.rxeither.flow;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Left and right {@link Flow.Publisher}s of an {@link net.jokubasdargis.rxeither.Either}
+ * publisher split by {@link RxEitherFlow#partitionFlow(Flow.Publisher)}, both fed by a single
+ * upstream subscription.
+ *
+ * @param <L> The type of left value.
+ * @param <R> The type of right value.
+ */
+public final class EitherFlowPartition<L, R> {
+
+    private final PublisherPartition<L, R> partition;
+
+    EitherFlowPartition(PublisherPartition<L, R> partition) {
+        this.partition = partition;
+    }
+
+    /**
+     * @return the publisher of left values, accepting a single subscriber.
+     */
+    public Flow.Publisher<L> left() {
+        return FlowAdapters.toFlow(partition.left);
+    }
+
+    /**
+     * @return the publisher of right values, accepting a single subscriber.
+     */
+    public Flow.Publisher<R> right() {
+        return FlowAdapters.toFlow(partition.right);
+    }
+}
@@ -0,0 +1,34 @@
+package net.jokubasdargis.rxeither.flow;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Left and right Reactive Streams publishers of an {@link net.jokubasdargis.rxeither.Either}
+ * publisher split by {@link RxEitherFlow#partition(Publisher)}, both fed by a single upstream
+ * subscription.
+ *
+ * @param <L> The type of left value.
+ * @param <R> The type of right value.
+ */
+public final class EitherPublisherPartition<L, R> {
+
+    private final PublisherPartition<L, R> partition;
+
+    EitherPublisherPartition(PublisherPartition<L, R> partition) {
+        this.partition = partition;
+    }
+
+    /**
+     * @return the publisher of left values, accepting a single subscriber.
+     */
+    public Publisher<L> left() {
+        return partition.left;
+    }
+
+    /**
+     * @return the publisher of right values, accepting a single subscriber.
+     */
+    public Publisher<R> right() {
+        return partition.right;
+    }
+}
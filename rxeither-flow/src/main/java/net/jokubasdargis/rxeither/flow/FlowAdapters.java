@@ -0,0 +1,152 @@
+package net.jokubasdargis.rxeither.flow;
+
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Bridges between Reactive Streams and {@link Flow} types by delegation only: every signal,
+ * including {@code request(n)}, is forwarded as it is, without any queue in between.
+ *
+ * <p>Converting an adapter back returns the instance it wraps.
+ */
+final class FlowAdapters {
+
+    private FlowAdapters() {
+        throw new AssertionError("No instances.");
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Flow.Publisher<T> toFlow(Publisher<? extends T> publisher) {
+        if (publisher instanceof ReactivePublisher) {
+            return (Flow.Publisher<T>) ((ReactivePublisher<? extends T>) publisher).flow;
+        }
+        return new FlowPublisher<T>(publisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Publisher<T> toReactive(Flow.Publisher<? extends T> publisher) {
+        if (publisher instanceof FlowPublisher) {
+            return (Publisher<T>) ((FlowPublisher<? extends T>) publisher).reactive;
+        }
+        return new ReactivePublisher<T>(publisher);
+    }
+
+    static final class FlowPublisher<T> implements Flow.Publisher<T> {
+
+        final Publisher<? extends T> reactive;
+
+        FlowPublisher(Publisher<? extends T> reactive) {
+            this.reactive = reactive;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            reactive.subscribe(new ReactiveToFlowSubscriber<T>(subscriber));
+        }
+    }
+
+    static final class ReactivePublisher<T> implements Publisher<T> {
+
+        final Flow.Publisher<? extends T> flow;
+
+        ReactivePublisher(Flow.Publisher<? extends T> flow) {
+            this.flow = flow;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            flow.subscribe(new FlowToReactiveSubscriber<T>(subscriber));
+        }
+    }
+
+    /**
+     * Receives Reactive Streams signals and hands them to a {@link Flow.Subscriber}.
+     */
+    static final class ReactiveToFlowSubscriber<T> implements Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> actual;
+        private Subscription s;
+
+        ReactiveToFlowSubscriber(Flow.Subscriber<? super T> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.s = s;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T value) {
+            actual.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+
+    /**
+     * Receives {@link Flow} signals and hands them to a Reactive Streams {@link Subscriber}.
+     */
+    static final class FlowToReactiveSubscriber<T> implements Flow.Subscriber<T>, Subscription {
+
+        private final Subscriber<? super T> actual;
+        private Flow.Subscription s;
+
+        FlowToReactiveSubscriber(Subscriber<? super T> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            this.s = s;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T value) {
+            actual.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package net.jokubasdargis.rxeither.flow;
+
+import net.jokubasdargis.rxeither.Either;
+import net.jokubasdargis.rxeither.functions.UncheckedFunction;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.subscriptions.EmptySubscription;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Routes a single upstream subscription of {@link Either}s into a left and a right
+ * {@link Publisher} without buffering anything.
+ *
+ * <p>The side of a value is only known once it arrives, so the upstream is never asked for more
+ * than the smaller outstanding demand of the two sides, minus what is already in flight: even if
+ * every requested value turns out to belong to the same side, that side has requested it. A side
+ * which does not request therefore holds back the other one, as with a published
+ * {@code Flowable}. A cancelled side no longer limits the demand and its values are dropped.
+ *
+ * <p>Each side accepts a single subscriber. The upstream is subscribed to once both sides have
+ * a subscriber and cancelled once both sides have cancelled.
+ */
+final class PublisherPartition<L, R> implements Subscriber<Either<L, R>> {
+
+    private static final UncheckedFunction<Object, Object> IDENTITY =
+            new UncheckedFunction<Object, Object>() {
+                @Override
+                public Object apply(Object value) {
+                    return value;
+                }
+            };
+
+    private final Publisher<? extends Either<L, R>> source;
+    final Side<L> left;
+    final Side<R> right;
+
+    /**
+     * Demand state, guarded by this partition.
+     */
+    private Subscription upstream;
+    private long leftRequested;
+    private long rightRequested;
+    private long inFlight;
+    private int subscribed;
+    private int cancelled;
+
+    private boolean done;
+
+    PublisherPartition(Publisher<? extends Either<L, R>> source) {
+        this.source = source;
+        this.left = new Side<>(this, true);
+        this.right = new Side<>(this, false);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        long r;
+        boolean cancel;
+        synchronized (this) {
+            upstream = s;
+            cancel = cancelled == 2;
+            r = cancel ? 0L : pending();
+        }
+        if (cancel) {
+            s.cancel();
+        } else if (r != 0L) {
+            s.request(r);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onNext(Either<L, R> either) {
+        if (done) {
+            return;
+        }
+        boolean isLeft = either.isLeft();
+        Object v;
+        try {
+            v = either.fold(PublisherPartition.<L>identity(), PublisherPartition.<R>identity());
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            upstream.cancel();
+            onError(ex);
+            return;
+        }
+        long r;
+        Subscription s;
+        synchronized (this) {
+            if (inFlight != Long.MAX_VALUE) {
+                inFlight--;
+            }
+            if (isLeft) {
+                leftRequested = consume(leftRequested);
+            } else {
+                rightRequested = consume(rightRequested);
+            }
+            s = upstream;
+        }
+        if (isLeft) {
+            left.next((L) v);
+        } else {
+            right.next((R) v);
+        }
+        synchronized (this) {
+            r = pending();
+        }
+        if (r != 0L) {
+            s.request(r);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.onError(e);
+            return;
+        }
+        done = true;
+        left.terminate(e);
+        right.terminate(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        left.terminate(null);
+        right.terminate(null);
+    }
+
+    void sideSubscribed() {
+        boolean connect;
+        synchronized (this) {
+            connect = ++subscribed == 2;
+        }
+        if (connect) {
+            source.subscribe(this);
+        }
+    }
+
+    void sideRequested(boolean isLeft, long n) {
+        long r;
+        Subscription s;
+        synchronized (this) {
+            if (isLeft) {
+                leftRequested = BackpressureHelper.addCap(leftRequested, n);
+            } else {
+                rightRequested = BackpressureHelper.addCap(rightRequested, n);
+            }
+            r = pending();
+            s = upstream;
+        }
+        if (r != 0L) {
+            s.request(r);
+        }
+    }
+
+    void sideCancelled(boolean isLeft) {
+        long r;
+        boolean cancel;
+        Subscription s;
+        synchronized (this) {
+            if (isLeft) {
+                leftRequested = Long.MAX_VALUE;
+            } else {
+                rightRequested = Long.MAX_VALUE;
+            }
+            cancel = ++cancelled == 2;
+            r = cancel ? 0L : pending();
+            s = upstream;
+        }
+        if (s == null) {
+            return;
+        }
+        if (cancel) {
+            s.cancel();
+        } else if (r != 0L) {
+            s.request(r);
+        }
+    }
+
+    /**
+     * @return the amount to request from the upstream to bring what is in flight up to the
+     * smaller demand of the two sides, zero before the upstream has been subscribed to.
+     */
+    private long pending() {
+        if (upstream == null) {
+            return 0L;
+        }
+        long m = Math.min(leftRequested, rightRequested);
+        if (m == Long.MAX_VALUE) {
+            if (inFlight == Long.MAX_VALUE) {
+                return 0L;
+            }
+            inFlight = Long.MAX_VALUE;
+            return Long.MAX_VALUE;
+        }
+        long r = m - inFlight;
+        if (r <= 0L) {
+            return 0L;
+        }
+        inFlight = m;
+        return r;
+    }
+
+    private static long consume(long requested) {
+        return requested != Long.MAX_VALUE ? requested - 1 : requested;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> UncheckedFunction<T, Object> identity() {
+        return (UncheckedFunction<T, Object>) (UncheckedFunction<?, Object>) IDENTITY;
+    }
+
+    static final class Side<T> implements Publisher<T>, Subscription {
+
+        private final PublisherPartition<?, ?> parent;
+        private final boolean isLeft;
+
+        private volatile Subscriber<? super T> downstream;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private Throwable error;
+        private boolean once;
+        private boolean terminated;
+
+        Side(PublisherPartition<?, ?> parent, boolean isLeft) {
+            this.parent = parent;
+            this.isLeft = isLeft;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            synchronized (this) {
+                if (once) {
+                    EmptySubscription.error(
+                            new IllegalStateException("Only a single subscriber allowed."),
+                            subscriber);
+                    return;
+                }
+                once = true;
+            }
+            // set before onSubscribe so that a cancellation from within it clears it for good
+            downstream = subscriber;
+            subscriber.onSubscribe(this);
+            if (done) {
+                tryTerminate();
+            } else {
+                parent.sideSubscribed();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                parent.sideRequested(isLeft, n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                downstream = null;
+                parent.sideCancelled(isLeft);
+            }
+        }
+
+        void next(T value) {
+            Subscriber<? super T> a = downstream;
+            if (a != null) {
+                a.onNext(value);
+            }
+        }
+
+        void terminate(Throwable e) {
+            error = e;
+            done = true;
+            tryTerminate();
+        }
+
+        private void tryTerminate() {
+            Subscriber<? super T> a;
+            synchronized (this) {
+                a = downstream;
+                if (a == null || terminated) {
+                    return;
+                }
+                terminated = true;
+                downstream = null;
+            }
+            Throwable e = error;
+            if (e != null) {
+                a.onError(e);
+            } else {
+                a.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package net.jokubasdargis.rxeither.flow;
+
+import java.util.concurrent.Flow;
+
+import net.jokubasdargis.rxeither.Either;
+import net.jokubasdargis.rxeither.RxEither;
+
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
+
+/**
+ * Exposes the {@link Either} merge and partition of {@link RxEither} as Reactive Streams
+ * {@link Publisher}s and {@link Flow.Publisher}s.
+ *
+ * <p>Demand is passed straight through: the merge is the backpressure-aware merge of
+ * {@link RxEither#from(Flowable, Flowable)} and the adapters between Reactive Streams and
+ * {@link Flow} forward every signal without a queue in between.
+ *
+ * <p>The {@link Flow} variants carry a {@code Flow} suffix, as both publisher types are
+ * functional interfaces and would make overloads ambiguous for lambdas.
+ */
+public final class RxEitherFlow {
+
+    private RxEitherFlow() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * Combines two publishers into a single {@link Either} publisher.
+     */
+    public static <L, R> Publisher<Either<L, R>> from(Publisher<L> left, Publisher<R> right) {
+        return RxEither.from(Flowable.fromPublisher(left), Flowable.fromPublisher(right));
+    }
+
+    /**
+     * Combines two {@link Flow} publishers into a single {@link Either} {@link Flow} publisher.
+     */
+    public static <L, R> Flow.Publisher<Either<L, R>> fromFlow(Flow.Publisher<L> left,
+            Flow.Publisher<R> right) {
+        return FlowAdapters.toFlow(from(FlowAdapters.<L>toReactive(left),
+                FlowAdapters.<R>toReactive(right)));
+    }
+
+    /**
+     * Splits an {@link Either} publisher into left and right publishers sharing a single
+     * subscription to it, which is made once both sides have a subscriber. The upstream is
+     * never asked for more than both sides have requested, so nothing is buffered, but a side
+     * which does not request holds back the other one.
+     */
+    public static <L, R> EitherPublisherPartition<L, R> partition(
+            Publisher<? extends Either<L, R>> either) {
+        return new EitherPublisherPartition<>(new PublisherPartition<L, R>(either));
+    }
+
+    /**
+     * Splits an {@link Either} {@link Flow} publisher into left and right {@link Flow}
+     * publishers in the same way as {@link #partition(Publisher)}.
+     */
+    public static <L, R> EitherFlowPartition<L, R> partitionFlow(
+            Flow.Publisher<? extends Either<L, R>> either) {
+        return new EitherFlowPartition<>(
+                new PublisherPartition<L, R>(FlowAdapters.<Either<L, R>>toReactive(either)));
+    }
+
+    /**
+     * @return the given Reactive Streams publisher as a {@link Flow.Publisher}.
+     */
+    public static <T> Flow.Publisher<T> toFlow(Publisher<? extends T> publisher) {
+        return FlowAdapters.toFlow(publisher);
+    }
+
+    /**
+     * @return the given {@link Flow.Publisher} as a Reactive Streams publisher.
+     */
+    public static <T> Publisher<T> toReactive(Flow.Publisher<? extends T> publisher) {
+        return FlowAdapters.toReactive(publisher);
+    }
+}
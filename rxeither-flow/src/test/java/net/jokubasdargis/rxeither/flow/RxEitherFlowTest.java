@@ -0,0 +1,146 @@
+package net.jokubasdargis.rxeither.flow;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import net.jokubasdargis.rxeither.Either;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.LongConsumer;
+import io.reactivex.subscribers.TestSubscriber;
+
+public final class RxEitherFlowTest {
+
+    private final List<Long> upstreamRequests = new ArrayList<>();
+
+    @Test
+    public void fromFlowPassesDemandThrough() {
+        Flow.Publisher<Integer> left = RxEitherFlow.toFlow(Flowable.just(1, 2, 3));
+        Flow.Publisher<String> right = RxEitherFlow.toFlow(Flowable.<String>empty());
+        FlowRecorder<Either<Integer, String>> recorder = new FlowRecorder<>();
+
+        RxEitherFlow.fromFlow(left, right).subscribe(recorder);
+        assertThat(recorder.values).isEmpty();
+
+        recorder.subscription.request(2);
+        assertThat(recorder.values).containsExactly(Either.<Integer, String>left(1),
+                Either.<Integer, String>left(2)).inOrder();
+        assertThat(recorder.completed).isFalse();
+
+        recorder.subscription.request(1);
+        assertThat(recorder.values).hasSize(3);
+        assertThat(recorder.completed).isTrue();
+    }
+
+    @Test
+    public void partitionRequestsSmallerDemand() {
+        EitherPublisherPartition<Integer, String> partition = RxEitherFlow.partition(source());
+        TestSubscriber<Integer> left = TestSubscriber.create(3);
+        TestSubscriber<String> right = TestSubscriber.create(0);
+
+        partition.left().subscribe(left);
+        partition.right().subscribe(right);
+        assertThat(upstreamRequests).isEmpty();
+        left.assertNoValues();
+
+        right.request(1);
+        left.assertValue(1);
+        right.assertValue("a");
+        assertThat(upstreamRequests).containsExactly(1L, 1L).inOrder();
+
+        right.cancel();
+        left.assertResult(1, 2, 3);
+    }
+
+    @Test
+    public void partitionSideCancelledInOnSubscribeStaysCancelled() {
+        EitherPublisherPartition<Integer, String> partition = RxEitherFlow.partition(source());
+        TestSubscriber<Integer> left = TestSubscriber.create();
+        TestSubscriber<String> right = TestSubscriber.create();
+        left.cancel();
+
+        partition.left().subscribe(left);
+        partition.right().subscribe(right);
+
+        left.assertEmpty();
+        right.assertResult("a");
+    }
+
+    @Test
+    public void partitionAllowsSingleSubscriber() {
+        EitherPublisherPartition<Integer, String> partition = RxEitherFlow.partition(source());
+        partition.left().subscribe(TestSubscriber.<Integer>create());
+
+        TestSubscriber<Integer> second = TestSubscriber.create();
+        partition.left().subscribe(second);
+
+        second.assertFailure(IllegalStateException.class);
+    }
+
+    @Test
+    public void flowPartition() {
+        EitherFlowPartition<Integer, String> partition =
+                RxEitherFlow.partitionFlow(RxEitherFlow.toFlow(source()));
+        FlowRecorder<Integer> left = new FlowRecorder<>();
+        FlowRecorder<String> right = new FlowRecorder<>();
+
+        partition.left().subscribe(left);
+        partition.right().subscribe(right);
+        left.subscription.request(Long.MAX_VALUE);
+        right.subscription.request(Long.MAX_VALUE);
+
+        assertThat(left.values).containsExactly(1, 2, 3).inOrder();
+        assertThat(right.values).containsExactly("a");
+        assertThat(left.completed).isTrue();
+        assertThat(right.completed).isTrue();
+    }
+
+    @Test
+    public void adaptersUnwrap() {
+        Flowable<Integer> publisher = Flowable.just(1);
+
+        assertThat(RxEitherFlow.toReactive(RxEitherFlow.toFlow(publisher))).isSameAs(publisher);
+    }
+
+    private Flowable<Either<Integer, String>> source() {
+        return Flowable.just(Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2), Either.<Integer, String>left(3))
+                .doOnRequest(new LongConsumer() {
+                    @Override
+                    public void accept(long n) {
+                        upstreamRequests.add(n);
+                    }
+                });
+    }
+
+    private static final class FlowRecorder<T> implements Flow.Subscriber<T> {
+
+        final List<T> values = new ArrayList<>();
+        Flow.Subscription subscription;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
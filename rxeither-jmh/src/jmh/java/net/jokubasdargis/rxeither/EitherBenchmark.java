@@ -0,0 +1,94 @@
+package net.jokubasdargis.rxeither;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jokubasdargis.rxeither.functions.UncheckedFunction;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Cost of creating {@link Either} instances, of their {@code equals} and {@code hashCode} and of
+ * folding them through {@code join} and {@code fold}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class EitherBenchmark {
+
+    private Integer value;
+    private Either<Integer, Integer> left;
+    private Either<Integer, Integer> otherLeft;
+    private Either<Integer, Integer> right;
+    private Either<Integer, Integer> otherRight;
+    private Function<Integer, Integer> increment;
+    private UncheckedFunction<Integer, Integer> uncheckedIncrement;
+
+    @Setup
+    public void setup() {
+        value = 1000;
+        left = Either.left(value);
+        otherLeft = Either.left(value);
+        right = Either.right(value);
+        otherRight = Either.right(value);
+        increment = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value + 1;
+            }
+        };
+        uncheckedIncrement = new UncheckedFunction<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value + 1;
+            }
+        };
+    }
+
+    @Benchmark
+    public Either<Integer, Integer> createLeft() {
+        return Either.left(value);
+    }
+
+    @Benchmark
+    public Either<Integer, Integer> createRight() {
+        return Either.right(value);
+    }
+
+    @Benchmark
+    public boolean leftEquals() {
+        return left.equals(otherLeft);
+    }
+
+    @Benchmark
+    public boolean rightEquals() {
+        return right.equals(otherRight);
+    }
+
+    @Benchmark
+    public int leftHashCode() {
+        return left.hashCode();
+    }
+
+    @Benchmark
+    public int rightHashCode() {
+        return right.hashCode();
+    }
+
+    @Benchmark
+    public Integer leftJoin() {
+        return left.join(increment, increment);
+    }
+
+    @Benchmark
+    public Integer leftFold() {
+        return left.fold(uncheckedIncrement, uncheckedIncrement);
+    }
+}
@@ -0,0 +1,81 @@
+package net.jokubasdargis.rxeither;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.FlowableSubscriber;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Sinks every value into a {@link Blackhole} and lets async benchmarks wait until either the
+ * stream terminates or the expected number of values has been received.
+ */
+final class PerfConsumer implements Observer<Object>, FlowableSubscriber<Object> {
+
+    private final Blackhole bh;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private long remaining;
+    private Disposable disposable;
+    private Subscription subscription;
+
+    PerfConsumer(Blackhole bh) {
+        this(bh, Long.MAX_VALUE);
+    }
+
+    PerfConsumer(Blackhole bh, long expected) {
+        this.bh = bh;
+        this.remaining = expected;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        disposable = d;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Object value) {
+        bh.consume(value);
+        if (--remaining == 0) {
+            if (disposable != null) {
+                disposable.dispose();
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            latch.countDown();
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        bh.consume(e);
+        latch.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        bh.consume(true);
+        latch.countDown();
+    }
+
+    void await() {
+        try {
+            if (!latch.await(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for values");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
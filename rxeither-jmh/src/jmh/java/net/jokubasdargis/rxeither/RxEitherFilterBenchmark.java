@@ -0,0 +1,84 @@
+package net.jokubasdargis.rxeither;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+
+/**
+ * Throughput of {@link RxEither#filterLeft} and {@link RxEither#filterRight} over a stream
+ * alternating between both sides, next to the equivalent filter and map pair.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@OperationsPerInvocation(RxEitherFilterBenchmark.COUNT)
+public class RxEitherFilterBenchmark {
+
+    /**
+     * Elements per stream, every benchmark reports its results per element.
+     */
+    static final int COUNT = 1000;
+
+    private Observable<Either<Integer, Integer>> observable;
+    private Flowable<Either<Integer, Integer>> flowable;
+    private Function<Either<Integer, Integer>, Integer> unwrap;
+
+    @Setup
+    public void setup() {
+        List<Either<Integer, Integer>> eithers = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            eithers.add(i % 2 == 0
+                    ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i));
+        }
+        observable = Observable.fromIterable(eithers);
+        flowable = Flowable.fromIterable(eithers);
+
+        Function<Integer, Integer> identity = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value;
+            }
+        };
+        unwrap = RxEither.joinLazy(identity, identity);
+    }
+
+    @Benchmark
+    public void filterLeft(Blackhole bh) {
+        RxEither.filterLeft(observable).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void filterRight(Blackhole bh) {
+        RxEither.filterRight(observable).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void filterLeftFilterMap(Blackhole bh) {
+        observable.filter(RxEither.<Integer, Integer>isLeft()).map(unwrap)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableFilterLeft(Blackhole bh) {
+        RxEither.filterLeft(flowable).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableFilterRight(Blackhole bh) {
+        RxEither.filterRight(flowable).subscribe(new PerfConsumer(bh));
+    }
+}
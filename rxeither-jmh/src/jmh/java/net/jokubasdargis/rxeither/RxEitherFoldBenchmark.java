@@ -0,0 +1,80 @@
+package net.jokubasdargis.rxeither;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Throughput of {@link RxEither#joinLazy} and {@link RxEither#continuedLazy} over a stream
+ * alternating between both sides.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@OperationsPerInvocation(RxEitherFoldBenchmark.COUNT)
+public class RxEitherFoldBenchmark {
+
+    /**
+     * Elements per stream, every benchmark reports its results per element.
+     */
+    static final int COUNT = 1000;
+
+    private Observable<Either<Integer, String>> observable;
+    private Function<Either<Integer, String>, Integer> join;
+
+    @Setup
+    public void setup() {
+        List<Either<Integer, String>> eithers = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            eithers.add(i % 2 == 0
+                    ? Either.<Integer, String>left(i) : Either.<Integer, String>right("r"));
+        }
+        observable = Observable.fromIterable(eithers);
+
+        join = RxEither.joinLazy(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value;
+            }
+        }, new Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return value.length();
+            }
+        });
+    }
+
+    @Benchmark
+    public void joinLazy(Blackhole bh) {
+        observable.map(join).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void continuedLazy(final Blackhole bh) {
+        observable.subscribe(RxEither.continuedLazy(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                bh.consume(value);
+            }
+        }, new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                bh.consume(value);
+            }
+        }));
+    }
+}
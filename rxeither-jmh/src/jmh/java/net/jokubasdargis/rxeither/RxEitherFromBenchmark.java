@@ -0,0 +1,88 @@
+package net.jokubasdargis.rxeither;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Merging throughput of {@link RxEither#from} with synchronous and asynchronous sides, per merged
+ * element.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@OperationsPerInvocation(RxEitherFromBenchmark.COUNT)
+public class RxEitherFromBenchmark {
+
+    /**
+     * Elements per stream, every benchmark reports its results per element.
+     */
+    static final int COUNT = 1000;
+
+    private Observable<Either<Integer, Integer>> syncLeft;
+    private Observable<Either<Integer, Integer>> syncRight;
+    private Observable<Either<Integer, Integer>> asyncBoth;
+    private Flowable<Either<Integer, Integer>> flowableSyncLeft;
+    private Flowable<Either<Integer, Integer>> flowableAsyncBoth;
+
+    @Setup
+    public void setup() {
+        Observable<Integer> range = Observable.range(0, COUNT);
+        syncLeft = RxEither.from(range, Observable.<Integer>never());
+        syncRight = RxEither.from(Observable.<Integer>never(), range);
+
+        Observable<Integer> async = range.subscribeOn(Schedulers.computation())
+                .concatWith(Observable.<Integer>never());
+        asyncBoth = RxEither.from(async, async);
+
+        Flowable<Integer> flowableRange = Flowable.range(0, COUNT);
+        flowableSyncLeft = RxEither.from(flowableRange, Flowable.<Integer>never());
+
+        Flowable<Integer> flowableAsync = flowableRange.subscribeOn(Schedulers.computation())
+                .concatWith(Flowable.<Integer>never());
+        flowableAsyncBoth = RxEither.from(flowableAsync, flowableAsync);
+    }
+
+    @Benchmark
+    public void fromSyncLeft(Blackhole bh) {
+        syncLeft.subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void fromSyncRight(Blackhole bh) {
+        syncRight.subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * COUNT)
+    public void fromAsyncBoth(Blackhole bh) {
+        PerfConsumer consumer = new PerfConsumer(bh, 2L * COUNT);
+        asyncBoth.subscribe(consumer);
+        consumer.await();
+    }
+
+    @Benchmark
+    public void fromFlowableSyncLeft(Blackhole bh) {
+        flowableSyncLeft.subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * COUNT)
+    public void fromFlowableAsyncBoth(Blackhole bh) {
+        PerfConsumer consumer = new PerfConsumer(bh, 2L * COUNT);
+        flowableAsyncBoth.subscribe(consumer);
+        consumer.await();
+    }
+}
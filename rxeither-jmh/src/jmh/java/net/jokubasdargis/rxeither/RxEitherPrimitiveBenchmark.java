@@ -0,0 +1,69 @@
+package net.jokubasdargis.rxeither;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+
+/**
+ * Per element cost of {@code int} left values produced boxed and merged by {@link RxEither#from}
+ * or {@link RxEither#fromInt}, next to producing them unboxed with {@link RxEither#createInt}.
+ * Values start above the {@link Integer} cache, so that boxing them always allocates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@OperationsPerInvocation(RxEitherPrimitiveBenchmark.COUNT)
+public class RxEitherPrimitiveBenchmark {
+
+    /**
+     * Elements per stream, every benchmark reports its results per element.
+     */
+    static final int COUNT = 1000;
+
+    private static final int START = 1000;
+
+    private Observable<Either<Integer, String>> from;
+    private Observable<IntLeftEither<String>> fromInt;
+    private Observable<IntLeftEither<String>> createInt;
+
+    @Setup
+    public void setup() {
+        Observable<Integer> range = Observable.range(START, COUNT);
+        from = RxEither.from(range, Observable.<String>never());
+        fromInt = RxEither.fromInt(range, Observable.<String>never());
+        createInt = RxEither.createInt(new IntLeftEither.OnSubscribe<String>() {
+            @Override
+            public void subscribe(IntLeftEither.Emitter<String> emitter) {
+                for (int i = START; i < START + COUNT && !emitter.isDisposed(); i++) {
+                    emitter.onLeft(i);
+                }
+                emitter.onComplete();
+            }
+        });
+    }
+
+    @Benchmark
+    public void from(Blackhole bh) {
+        from.subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void fromInt(Blackhole bh) {
+        fromInt.subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void createInt(Blackhole bh) {
+        createInt.subscribe(new PerfConsumer(bh));
+    }
+}
@@ -0,0 +1,251 @@
+package net.jokubasdargis.rxeither;
+
+import net.jokubasdargis.rxeither.functions.DoubleConsumer;
+import net.jokubasdargis.rxeither.functions.DoubleUnaryOperator;
+import net.jokubasdargis.rxeither.functions.ToDoubleFunction;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Cancellable;
+import io.reactivex.functions.Consumer;
+
+/**
+ * {@link Either} specialized for {@code double} left values, which are stored and handed to
+ * {@link DoubleConsumer}s and {@link DoubleUnaryOperator}s without boxing. The value is only boxed
+ * when it is accessed through the generic {@link Either} methods.
+ *
+ * <p>Instances are never equal to {@link Either}s created by {@link Either#left(Object)} or
+ * {@link Either#right(Object)}.
+ *
+ * @param <R> The type of right value.
+ */
+public abstract class DoubleLeftEither<R> extends PrimitiveLeftEither<Double, R> {
+
+    /**
+     * Creates {@link DoubleLeftEither} instance for the given value as left.
+     */
+    public static <R> DoubleLeftEither<R> ofLeft(double value) {
+        return new LeftValue<>(value);
+    }
+
+    /**
+     * Creates {@link DoubleLeftEither} instance for the given value as right.
+     */
+    public static <R> DoubleLeftEither<R> ofRight(R value) {
+        return new RightValue<>(value);
+    }
+
+    DoubleLeftEither() { }
+
+    /**
+     * @return the factory unboxing left values into {@link DoubleLeftEither}s.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> EitherFactory<Double, R> factory() {
+        return (EitherFactory<Double, R>) Factory.INSTANCE;
+    }
+
+    /**
+     * Invokes the {@code left} consumer with the unboxed value if this is a left, the
+     * {@code right} consumer otherwise.
+     */
+    public abstract void continuedDouble(DoubleConsumer left, Consumer<R> right);
+
+    /**
+     * @return the result of applying {@code left} to the unboxed value if this is a left, of
+     * applying {@code right} otherwise.
+     */
+    public abstract double joinToDouble(DoubleUnaryOperator left, ToDoubleFunction<R> right);
+
+    private static final class LeftValue<R> extends DoubleLeftEither<R> {
+
+        private final double value;
+
+        LeftValue(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        Object value() {
+            return value;
+        }
+
+        @Override
+        public void continuedDouble(DoubleConsumer left, Consumer<R> right) {
+            try {
+                left.accept(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public double joinToDouble(DoubleUnaryOperator left, ToDoubleFunction<R> right) {
+            try {
+                return left.apply(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    private static final class RightValue<R> extends DoubleLeftEither<R> {
+
+        private final R value;
+
+        RightValue(R value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        Object value() {
+            return value;
+        }
+
+        @Override
+        public void continuedDouble(DoubleConsumer left, Consumer<R> right) {
+            try {
+                right.accept(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public double joinToDouble(DoubleUnaryOperator left, ToDoubleFunction<R> right) {
+            try {
+                return right.apply(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    /**
+     * @return a {@link Consumer} handing the unboxed value of left {@link DoubleLeftEither}s to the
+     * given {@link DoubleConsumer}, meant for operators which already checked the side.
+     */
+    static <R> Consumer<Either<Double, R>> leftConsumer(DoubleConsumer consumer) {
+        return new LeftConsumer<>(consumer);
+    }
+
+    private static final class LeftConsumer<R> implements Consumer<Either<Double, R>> {
+
+        private final DoubleConsumer consumer;
+
+        LeftConsumer(DoubleConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(Either<Double, R> either) throws Exception {
+            consumer.accept(((LeftValue<R>) either).value);
+        }
+    }
+
+    /**
+     * @return an observable of the {@link DoubleLeftEither}s pushed by the given
+     * {@link OnSubscribe}, whose left values are never boxed on their way downstream.
+     */
+    static <R> Observable<DoubleLeftEither<R>> create(final OnSubscribe<R> source) {
+        return Observable.create(new ObservableOnSubscribe<DoubleLeftEither<R>>() {
+            @Override
+            public void subscribe(ObservableEmitter<DoubleLeftEither<R>> emitter) throws Exception {
+                source.subscribe(new EmitterAdapter<R>(emitter));
+            }
+        });
+    }
+
+    /**
+     * Pushes values into an observable created by {@link RxEither#createDouble}, otherwise behaving
+     * as an {@link ObservableEmitter}.
+     *
+     * @param <R> The type of right value.
+     */
+    public interface Emitter<R> {
+
+        /**
+         * Emits the given value as a left without boxing it.
+         */
+        void onLeft(double value);
+
+        /**
+         * Emits the given value as a right.
+         */
+        void onRight(R value);
+
+        void onError(Throwable error);
+
+        void onComplete();
+
+        void setCancellable(Cancellable cancellable);
+
+        boolean isDisposed();
+    }
+
+    /**
+     * Called with a fresh {@link Emitter} for every observer of an observable created by
+     * {@link RxEither#createDouble}.
+     *
+     * @param <R> The type of right value.
+     */
+    public interface OnSubscribe<R> {
+
+        void subscribe(Emitter<R> emitter) throws Exception;
+    }
+
+    private static final class EmitterAdapter<R>
+            extends AbstractEmitter<DoubleLeftEither<R>, R> implements Emitter<R> {
+
+        EmitterAdapter(ObservableEmitter<DoubleLeftEither<R>> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onLeft(double value) {
+            emitter.onNext(new LeftValue<R>(value));
+        }
+
+        @Override
+        DoubleLeftEither<R> right(R value) {
+            return new RightValue<R>(value);
+        }
+    }
+
+    private static final class Factory<R> extends EitherFactory<Double, R> {
+
+        static final Factory<?> INSTANCE = new Factory<>();
+
+        @Override
+        Either<Double, R> left(Double value) {
+            return new LeftValue<>(value.doubleValue());
+        }
+
+        @Override
+        Either<Double, R> right(R value) {
+            return new RightValue<>(value);
+        }
+    }
+}
@@ -2,6 +2,15 @@ package net.jokubasdargis.rxeither;
 
 import com.pacoworks.rxsealedunions2.Union2;
 
+import java.util.concurrent.Callable;
+
+import net.jokubasdargis.rxeither.functions.UncheckedConsumer;
+import net.jokubasdargis.rxeither.functions.UncheckedFunction;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.ObjectHelper;
+
 /**
  * Represents a value of one of two possible types (a disjoint union.) Instances are either
  * instance of {@link Left} or {@link Right}.
@@ -25,6 +34,26 @@ public abstract class Either<L, R> implements Union2<L, R> {
         return new Right<>(value);
     }
 
+    /**
+     * Creates {@link Either} instance for the value computed by the given {@link Callable} as
+     * left. The value is computed at most once, the first time it is needed, while
+     * {@link #isLeft()} and {@link #isRight()} are answered without computing it. Lazy instances
+     * are only ever equal to other lazy instances.
+     */
+    public static <L, R> Either<L, R> lazyLeft(Callable<? extends L> value) {
+        return new LazyEither<>(ObjectHelper.requireNonNull(value, "value is null"), true);
+    }
+
+    /**
+     * Creates {@link Either} instance for the value computed by the given {@link Callable} as
+     * right. The value is computed at most once, the first time it is needed, while
+     * {@link #isLeft()} and {@link #isRight()} are answered without computing it. Lazy instances
+     * are only ever equal to other lazy instances.
+     */
+    public static <L, R> Either<L, R> lazyRight(Callable<? extends R> value) {
+        return new LazyEither<>(ObjectHelper.requireNonNull(value, "value is null"), false);
+    }
+
     Either() { }
 
     /**
@@ -36,4 +65,100 @@ public abstract class Either<L, R> implements Union2<L, R> {
      * @return false if this is a Right, false otherwise.
      */
     public abstract boolean isRight();
+
+    /**
+     * Invokes the {@code left} consumer if this is a Left, the {@code right} consumer otherwise.
+     * Unlike {@link #continued(io.reactivex.functions.Consumer, io.reactivex.functions.Consumer)}
+     * there is no checked exception to wrap, so exceptions thrown by the consumers propagate as
+     * they are.
+     */
+    @SuppressWarnings("unchecked")
+    public void consume(UncheckedConsumer<L> left, UncheckedConsumer<R> right) {
+        if (isLeft()) {
+            left.accept((L) value());
+        } else {
+            right.accept((R) value());
+        }
+    }
+
+    /**
+     * @return the result of applying {@code left} if this is a Left, of applying {@code right}
+     * otherwise. Unlike {@link #join(Function, Function)} there is no checked exception to wrap,
+     * so exceptions thrown by the functions propagate as they are.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T fold(UncheckedFunction<L, T> left, UncheckedFunction<R, T> right) {
+        return isLeft() ? left.apply((L) value()) : right.apply((R) value());
+    }
+
+    /**
+     * @return a Left of the value mapped by {@code left} if this is a Left, this very instance
+     * otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public <L1> Either<L1, R> mapLeft(Function<L, L1> left) {
+        if (isLeft()) {
+            return Either.left(apply(left, (L) value()));
+        }
+        return (Either<L1, R>) this;
+    }
+
+    /**
+     * @return a Right of the value mapped by {@code right} if this is a Right, this very instance
+     * otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public <R1> Either<L, R1> mapRight(Function<R, R1> right) {
+        if (isRight()) {
+            return Either.right(apply(right, (R) value()));
+        }
+        return (Either<L, R1>) this;
+    }
+
+    /**
+     * @return a Left of the value mapped by {@code left} if this is a Left, a Right of the value
+     * mapped by {@code right} otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public <L1, R1> Either<L1, R1> bimap(Function<L, L1> left, Function<R, R1> right) {
+        if (isLeft()) {
+            return Either.left(apply(left, (L) value()));
+        }
+        return Either.right(apply(right, (R) value()));
+    }
+
+    /**
+     * @return the {@link Either} returned by {@code right} if this is a Right, this very instance
+     * otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public <R1> Either<L, R1> flatMapRight(Function<R, Either<L, R1>> right) {
+        if (isRight()) {
+            return apply(right, (R) value());
+        }
+        return (Either<L, R1>) this;
+    }
+
+    /**
+     * @return an instance holding the same value which stays valid after this one has been
+     * reused, which is this very instance unless it was emitted by
+     * {@link RxEither#fromFlyweight}.
+     */
+    public Either<L, R> copy() {
+        return this;
+    }
+
+    /**
+     * @return the wrapped value of whichever side this is, for operators that already checked
+     * {@link #isLeft()} or {@link #isRight()} and would rather not go through a fold.
+     */
+    abstract Object value();
+
+    private static <T, U> U apply(Function<T, U> function, T value) {
+        try {
+            return function.apply(value);
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package net.jokubasdargis.rxeither;
+
+import com.pacoworks.rxsealedunions2.Union3;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Represents a value of one of three possible types, without nesting {@link Either}s.
+ *
+ * @param <A> The first type.
+ * @param <B> The second type.
+ * @param <C> The third type.
+ */
+public final class Either3<A, B, C> extends EitherN<A, B, C, Void, Void, Void>
+        implements Union3<A, B, C> {
+
+    @SuppressWarnings("rawtypes")
+    private static final ObservableEitherN.Tagger TAGGER = new ObservableEitherN.Tagger() {
+        @Override
+        Object tag(int index, Object value) {
+            return new Either3<>(index, value);
+        }
+    };
+
+    /**
+     * Creates {@link Either3} instance for the given value as first.
+     */
+    public static <A, B, C> Either3<A, B, C> first(A value) {
+        return new Either3<>(0, value);
+    }
+
+    /**
+     * Creates {@link Either3} instance for the given value as second.
+     */
+    public static <A, B, C> Either3<A, B, C> second(B value) {
+        return new Either3<>(1, value);
+    }
+
+    /**
+     * Creates {@link Either3} instance for the given value as third.
+     */
+    public static <A, B, C> Either3<A, B, C> third(C value) {
+        return new Either3<>(2, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B, C> ObservableEitherN.Tagger<Either3<A, B, C>> tagger() {
+        return TAGGER;
+    }
+
+    private Either3(int index, Object value) {
+        super(index, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<A> first, Consumer<B> second, Consumer<C> third) {
+        try {
+            switch (index) {
+                case 0:
+                    first.accept((A) value);
+                    break;
+                case 1:
+                    second.accept((B) value);
+                    break;
+                case 2:
+                    third.accept((C) value);
+                    break;
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R join(Function<A, R> first, Function<B, R> second, Function<C, R> third) {
+        try {
+            switch (index) {
+                case 0:
+                    return first.apply((A) value);
+                case 1:
+                    return second.apply((B) value);
+                case 2:
+                    return third.apply((C) value);
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
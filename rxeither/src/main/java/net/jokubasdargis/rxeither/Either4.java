@@ -0,0 +1,112 @@
+package net.jokubasdargis.rxeither;
+
+import com.pacoworks.rxsealedunions2.Union4;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Represents a value of one of four possible types, without nesting {@link Either}s.
+ *
+ * @param <A> The first type.
+ * @param <B> The second type.
+ * @param <C> The third type.
+ * @param <D> The fourth type.
+ */
+public final class Either4<A, B, C, D> extends EitherN.AtLeast4<A, B, C, D, Void, Void>
+        implements Union4<A, B, C, D> {
+
+    @SuppressWarnings("rawtypes")
+    private static final ObservableEitherN.Tagger TAGGER = new ObservableEitherN.Tagger() {
+        @Override
+        Object tag(int index, Object value) {
+            return new Either4<>(index, value);
+        }
+    };
+
+    /**
+     * Creates {@link Either4} instance for the given value as first.
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> first(A value) {
+        return new Either4<>(0, value);
+    }
+
+    /**
+     * Creates {@link Either4} instance for the given value as second.
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> second(B value) {
+        return new Either4<>(1, value);
+    }
+
+    /**
+     * Creates {@link Either4} instance for the given value as third.
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> third(C value) {
+        return new Either4<>(2, value);
+    }
+
+    /**
+     * Creates {@link Either4} instance for the given value as fourth.
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> fourth(D value) {
+        return new Either4<>(3, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B, C, D> ObservableEitherN.Tagger<Either4<A, B, C, D>> tagger() {
+        return TAGGER;
+    }
+
+    private Either4(int index, Object value) {
+        super(index, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<A> first, Consumer<B> second,
+            Consumer<C> third, Consumer<D> fourth) {
+        try {
+            switch (index) {
+                case 0:
+                    first.accept((A) value);
+                    break;
+                case 1:
+                    second.accept((B) value);
+                    break;
+                case 2:
+                    third.accept((C) value);
+                    break;
+                case 3:
+                    fourth.accept((D) value);
+                    break;
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R join(Function<A, R> first, Function<B, R> second,
+            Function<C, R> third, Function<D, R> fourth) {
+        try {
+            switch (index) {
+                case 0:
+                    return first.apply((A) value);
+                case 1:
+                    return second.apply((B) value);
+                case 2:
+                    return third.apply((C) value);
+                case 3:
+                    return fourth.apply((D) value);
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
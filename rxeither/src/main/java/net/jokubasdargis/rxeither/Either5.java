@@ -0,0 +1,125 @@
+package net.jokubasdargis.rxeither;
+
+import com.pacoworks.rxsealedunions2.Union5;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Represents a value of one of five possible types, without nesting {@link Either}s.
+ *
+ * @param <A> The first type.
+ * @param <B> The second type.
+ * @param <C> The third type.
+ * @param <D> The fourth type.
+ * @param <E> The fifth type.
+ */
+public final class Either5<A, B, C, D, E> extends EitherN.AtLeast5<A, B, C, D, E, Void>
+        implements Union5<A, B, C, D, E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final ObservableEitherN.Tagger TAGGER = new ObservableEitherN.Tagger() {
+        @Override
+        Object tag(int index, Object value) {
+            return new Either5<>(index, value);
+        }
+    };
+
+    /**
+     * Creates {@link Either5} instance for the given value as first.
+     */
+    public static <A, B, C, D, E> Either5<A, B, C, D, E> first(A value) {
+        return new Either5<>(0, value);
+    }
+
+    /**
+     * Creates {@link Either5} instance for the given value as second.
+     */
+    public static <A, B, C, D, E> Either5<A, B, C, D, E> second(B value) {
+        return new Either5<>(1, value);
+    }
+
+    /**
+     * Creates {@link Either5} instance for the given value as third.
+     */
+    public static <A, B, C, D, E> Either5<A, B, C, D, E> third(C value) {
+        return new Either5<>(2, value);
+    }
+
+    /**
+     * Creates {@link Either5} instance for the given value as fourth.
+     */
+    public static <A, B, C, D, E> Either5<A, B, C, D, E> fourth(D value) {
+        return new Either5<>(3, value);
+    }
+
+    /**
+     * Creates {@link Either5} instance for the given value as fifth.
+     */
+    public static <A, B, C, D, E> Either5<A, B, C, D, E> fifth(E value) {
+        return new Either5<>(4, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B, C, D, E> ObservableEitherN.Tagger<Either5<A, B, C, D, E>> tagger() {
+        return TAGGER;
+    }
+
+    private Either5(int index, Object value) {
+        super(index, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<A> first, Consumer<B> second,
+            Consumer<C> third, Consumer<D> fourth, Consumer<E> fifth) {
+        try {
+            switch (index) {
+                case 0:
+                    first.accept((A) value);
+                    break;
+                case 1:
+                    second.accept((B) value);
+                    break;
+                case 2:
+                    third.accept((C) value);
+                    break;
+                case 3:
+                    fourth.accept((D) value);
+                    break;
+                case 4:
+                    fifth.accept((E) value);
+                    break;
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R join(Function<A, R> first, Function<B, R> second,
+            Function<C, R> third, Function<D, R> fourth, Function<E, R> fifth) {
+        try {
+            switch (index) {
+                case 0:
+                    return first.apply((A) value);
+                case 1:
+                    return second.apply((B) value);
+                case 2:
+                    return third.apply((C) value);
+                case 3:
+                    return fourth.apply((D) value);
+                case 4:
+                    return fifth.apply((E) value);
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
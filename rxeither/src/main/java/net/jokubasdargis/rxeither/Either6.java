@@ -0,0 +1,138 @@
+package net.jokubasdargis.rxeither;
+
+import com.pacoworks.rxsealedunions2.Union6;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Represents a value of one of six possible types, without nesting {@link Either}s.
+ *
+ * @param <A> The first type.
+ * @param <B> The second type.
+ * @param <C> The third type.
+ * @param <D> The fourth type.
+ * @param <E> The fifth type.
+ * @param <F> The sixth type.
+ */
+public final class Either6<A, B, C, D, E, F> extends EitherN.AtLeast5<A, B, C, D, E, F>
+        implements Union6<A, B, C, D, E, F> {
+
+    @SuppressWarnings("rawtypes")
+    private static final ObservableEitherN.Tagger TAGGER = new ObservableEitherN.Tagger() {
+        @Override
+        Object tag(int index, Object value) {
+            return new Either6<>(index, value);
+        }
+    };
+
+    /**
+     * Creates {@link Either6} instance for the given value as first.
+     */
+    public static <A, B, C, D, E, F> Either6<A, B, C, D, E, F> first(A value) {
+        return new Either6<>(0, value);
+    }
+
+    /**
+     * Creates {@link Either6} instance for the given value as second.
+     */
+    public static <A, B, C, D, E, F> Either6<A, B, C, D, E, F> second(B value) {
+        return new Either6<>(1, value);
+    }
+
+    /**
+     * Creates {@link Either6} instance for the given value as third.
+     */
+    public static <A, B, C, D, E, F> Either6<A, B, C, D, E, F> third(C value) {
+        return new Either6<>(2, value);
+    }
+
+    /**
+     * Creates {@link Either6} instance for the given value as fourth.
+     */
+    public static <A, B, C, D, E, F> Either6<A, B, C, D, E, F> fourth(D value) {
+        return new Either6<>(3, value);
+    }
+
+    /**
+     * Creates {@link Either6} instance for the given value as fifth.
+     */
+    public static <A, B, C, D, E, F> Either6<A, B, C, D, E, F> fifth(E value) {
+        return new Either6<>(4, value);
+    }
+
+    /**
+     * Creates {@link Either6} instance for the given value as sixth.
+     */
+    public static <A, B, C, D, E, F> Either6<A, B, C, D, E, F> sixth(F value) {
+        return new Either6<>(5, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B, C, D, E, F> ObservableEitherN.Tagger<Either6<A, B, C, D, E, F>> tagger() {
+        return TAGGER;
+    }
+
+    private Either6(int index, Object value) {
+        super(index, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<A> first, Consumer<B> second, Consumer<C> third,
+            Consumer<D> fourth, Consumer<E> fifth, Consumer<F> sixth) {
+        try {
+            switch (index) {
+                case 0:
+                    first.accept((A) value);
+                    break;
+                case 1:
+                    second.accept((B) value);
+                    break;
+                case 2:
+                    third.accept((C) value);
+                    break;
+                case 3:
+                    fourth.accept((D) value);
+                    break;
+                case 4:
+                    fifth.accept((E) value);
+                    break;
+                case 5:
+                    sixth.accept((F) value);
+                    break;
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R join(Function<A, R> first, Function<B, R> second, Function<C, R> third,
+            Function<D, R> fourth, Function<E, R> fifth, Function<F, R> sixth) {
+        try {
+            switch (index) {
+                case 0:
+                    return first.apply((A) value);
+                case 1:
+                    return second.apply((B) value);
+                case 2:
+                    return third.apply((C) value);
+                case 3:
+                    return fourth.apply((D) value);
+                case 4:
+                    return fifth.apply((E) value);
+                case 5:
+                    return sixth.apply((F) value);
+                default:
+                    throw new AssertionError(index);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Routes a single {@link Either} stream of many keyed jobs to per-key observers, backing
+ * {@link KeyedEither}.
+ *
+ * <p>Every key costs one {@link Entry} in a {@link ConcurrentHashMap} and each observer of a key
+ * one {@link KeyObserver}. An entry caches the latest left value of its key and replays it to
+ * observers subscribing later. Once the right value of its key arrives, the entry is emitted to
+ * the current observers followed by completion and only keeps that right value, which is replayed
+ * to later observers until {@code retainedResults} newer right values have arrived and the entry
+ * is removed. Left values arriving for a key whose right value is still retained are dropped. An
+ * entry created by an observer of a key which has not been seen yet is removed again once its
+ * last observer is disposed, unless a left value has arrived in between.
+ *
+ * <p>The incoming {@link Either} instances are passed on as they are, except for those emitted by
+ * {@link RxEither#fromFlyweight}, which are copied as entries hold on to them.
+ *
+ * <p>Signals of a key are emitted while holding the lock of its entry, so that an observer
+ * joining concurrently neither misses nor repeats a value. Entries which have been removed while
+ * in use are marked as such, so that the upstream and joining observers retry with a fresh one.
+ */
+final class EitherDemux<K, L, R> extends AtomicReference<Disposable>
+        implements Observer<Either<L, R>>, Disposable {
+
+    private static final long serialVersionUID = 6541730948113398217L;
+
+    private final Function<? super L, ? extends K> leftKey;
+    private final Function<? super R, ? extends K> rightKey;
+    private final int retainedResults;
+    private final ConcurrentMap<K, Entry<K, L, R>> entries =
+            new ConcurrentHashMap<K, Entry<K, L, R>>();
+
+    /**
+     * Entries holding a right value, oldest first, only accessed by the upstream.
+     */
+    private final ArrayDeque<Entry<K, L, R>> completed = new ArrayDeque<Entry<K, L, R>>();
+
+    private volatile boolean done;
+    private Throwable error;
+
+    EitherDemux(Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey, int retainedResults) {
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.retainedResults = retainedResults;
+    }
+
+    Observable<Either<L, R>> observe(K key) {
+        return RxJavaPlugins.onAssembly(new KeyObservable<K, L, R>(this, key));
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(this, d);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onNext(Either<L, R> either) {
+        if (done) {
+            return;
+        }
+        Object value;
+        K key;
+        try {
+            value = either.value();
+            key = ObjectHelper.requireNonNull(either.isLeft()
+                    ? leftKey.apply((L) value)
+                    : rightKey.apply((R) value), "The key selector returned a null key");
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            DisposableHelper.dispose(this);
+            onError(ex);
+            return;
+        }
+        Either<L, R> copy = either.copy();
+        if (either.isLeft()) {
+            for (;;) {
+                Entry<K, L, R> entry = entry(key);
+                if (entry.left(copy)) {
+                    break;
+                }
+                entries.remove(key, entry);
+            }
+        } else {
+            Entry<K, L, R> entry;
+            for (;;) {
+                entry = entry(key);
+                if (entry.right(copy)) {
+                    break;
+                }
+                entries.remove(key, entry);
+            }
+            retain(entry);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.onError(e);
+            return;
+        }
+        error = e;
+        done = true;
+        terminateAll();
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            terminateAll();
+        }
+    }
+
+    /**
+     * Disposes the upstream and completes every observer which has not received the right value
+     * of its key, as if the upstream had completed.
+     */
+    @Override
+    public void dispose() {
+        if (DisposableHelper.dispose(this) && !done) {
+            done = true;
+            terminateAll();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(get());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void add(K key, KeyObserver<L, R> observer) {
+        for (;;) {
+            Entry<K, L, R> entry = entry(key);
+            if (entry.add(observer)) {
+                break;
+            }
+            entries.remove(key, entry);
+        }
+        if (done) {
+            Entry<K, L, R> entry = entries.get(key);
+            if (entry != null) {
+                terminate(entry);
+            }
+        }
+    }
+
+    private Entry<K, L, R> entry(K key) {
+        Entry<K, L, R> entry = entries.get(key);
+        if (entry == null) {
+            Entry<K, L, R> created = new Entry<K, L, R>(this, key);
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        return entry;
+    }
+
+    private void retain(Entry<K, L, R> entry) {
+        if (retainedResults == 0) {
+            entries.remove(entry.key, entry);
+            return;
+        }
+        completed.offer(entry);
+        if (completed.size() > retainedResults) {
+            Entry<K, L, R> oldest = completed.poll();
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    private void terminateAll() {
+        for (Entry<K, L, R> entry : entries.values()) {
+            terminate(entry);
+        }
+    }
+
+    /**
+     * Terminates the given entry with the terminal event of the upstream and removes it, unless
+     * it already holds the right value of its key.
+     */
+    private void terminate(Entry<K, L, R> entry) {
+        if (entry.terminate(error)) {
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    static final class Entry<K, L, R> {
+
+        private static final KeyObserver<?, ?>[] EMPTY = new KeyObserver<?, ?>[0];
+
+        private static final KeyObserver<?, ?>[] TERMINATED = new KeyObserver<?, ?>[0];
+
+        private static final KeyObserver<?, ?>[] REMOVED = new KeyObserver<?, ?>[0];
+
+        private final EitherDemux<K, L, R> parent;
+        final K key;
+
+        /**
+         * Guarded by this entry.
+         */
+        private KeyObserver<L, R>[] observers = cast(EMPTY);
+        private Either<L, R> latest;
+        private Either<L, R> result;
+        private Throwable error;
+
+        Entry(EitherDemux<K, L, R> parent, K key) {
+            this.parent = parent;
+            this.key = key;
+        }
+
+        /**
+         * @return false if this entry has been removed and a fresh one has to be used instead.
+         */
+        synchronized boolean add(KeyObserver<L, R> observer) {
+            KeyObserver<L, R>[] current = observers;
+            if (current == REMOVED) {
+                return false;
+            }
+            if (current == TERMINATED) {
+                observer.terminate(result, error);
+                return true;
+            }
+            int n = current.length;
+            KeyObserver<L, R>[] next = cast(new KeyObserver<?, ?>[n + 1]);
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = observer;
+            observers = next;
+            observer.entry = this;
+            if (observer.isDisposed()) {
+                // disposed before it could find this entry
+                remove(observer);
+            } else if (latest != null) {
+                observer.next(latest);
+            }
+            return true;
+        }
+
+        /**
+         * Removes the given observer, and this entry from the map if it was the last observer
+         * of a key which has not been seen yet.
+         */
+        synchronized void remove(KeyObserver<L, R> observer) {
+            KeyObserver<L, R>[] current = observers;
+            int n = current.length;
+            int j = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == observer) {
+                    j = i;
+                    break;
+                }
+            }
+            if (j < 0) {
+                return;
+            }
+            if (n == 1) {
+                if (latest == null) {
+                    observers = cast(REMOVED);
+                    parent.entries.remove(key, this);
+                } else {
+                    observers = cast(EMPTY);
+                }
+                return;
+            }
+            KeyObserver<L, R>[] next = cast(new KeyObserver<?, ?>[n - 1]);
+            System.arraycopy(current, 0, next, 0, j);
+            System.arraycopy(current, j + 1, next, j, n - j - 1);
+            observers = next;
+        }
+
+        /**
+         * Drops the given left value if this entry holds the retained right value of its key.
+         *
+         * @return false if this entry has been removed, in which case the key starts over with a
+         * fresh entry.
+         */
+        synchronized boolean left(Either<L, R> either) {
+            KeyObserver<L, R>[] current = observers;
+            if (current == REMOVED) {
+                return false;
+            }
+            if (current == TERMINATED) {
+                return true;
+            }
+            latest = either;
+            for (KeyObserver<L, R> observer : current) {
+                observer.next(either);
+            }
+            return true;
+        }
+
+        /**
+         * @return false if this entry has been removed or has completed, in which case the key
+         * starts over with a fresh entry.
+         */
+        synchronized boolean right(Either<L, R> either) {
+            KeyObserver<L, R>[] current = observers;
+            if (current == REMOVED || current == TERMINATED) {
+                return false;
+            }
+            result = either;
+            terminate(null);
+            return true;
+        }
+
+        /**
+         * @return whether this entry was still waiting for the right value of its key.
+         */
+        synchronized boolean terminate(Throwable e) {
+            KeyObserver<L, R>[] current = observers;
+            if (current == TERMINATED || current == REMOVED) {
+                return false;
+            }
+            observers = cast(TERMINATED);
+            latest = null;
+            error = e;
+            for (KeyObserver<L, R> observer : current) {
+                observer.terminate(result, e);
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <L, R> KeyObserver<L, R>[] cast(KeyObserver<?, ?>[] observers) {
+            return (KeyObserver<L, R>[]) observers;
+        }
+    }
+
+    static final class KeyObserver<L, R> implements Disposable {
+
+        private final Observer<? super Either<L, R>> downstream;
+        private volatile boolean disposed;
+
+        /**
+         * The entry this observer has been added to, set while holding its lock.
+         */
+        volatile Entry<?, L, R> entry;
+
+        KeyObserver(Observer<? super Either<L, R>> downstream) {
+            this.downstream = downstream;
+        }
+
+        void next(Either<L, R> either) {
+            if (!disposed) {
+                downstream.onNext(either);
+            }
+        }
+
+        void terminate(Either<L, R> result, Throwable e) {
+            if (disposed) {
+                return;
+            }
+            disposed = true;
+            if (e != null) {
+                downstream.onError(e);
+                return;
+            }
+            if (result != null) {
+                downstream.onNext(result);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                Entry<?, L, R> e = entry;
+                if (e != null) {
+                    e.remove(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    static final class KeyObservable<K, L, R> extends Observable<Either<L, R>> {
+
+        private final EitherDemux<K, L, R> parent;
+        private final K key;
+
+        KeyObservable(EitherDemux<K, L, R> parent, K key) {
+            this.parent = parent;
+            this.key = key;
+        }
+
+        @Override
+        protected void subscribeActual(Observer<? super Either<L, R>> observer) {
+            KeyObserver<L, R> inner = new KeyObserver<L, R>(observer);
+            observer.onSubscribe(inner);
+            if (!inner.isDisposed()) {
+                parent.add(key, inner);
+            }
+        }
+    }
+}
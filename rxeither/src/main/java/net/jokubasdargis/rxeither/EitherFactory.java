@@ -0,0 +1,40 @@
+package net.jokubasdargis.rxeither;
+
+/**
+ * Creates the {@link Either} instances merge operators wrap the values of each side into.
+ */
+abstract class EitherFactory<L, R> {
+
+    private static final EitherFactory<Object, Object> DEFAULT =
+            new EitherFactory<Object, Object>() {
+                @Override
+                Either<Object, Object> left(Object value) {
+                    return Either.left(value);
+                }
+
+                @Override
+                Either<Object, Object> right(Object value) {
+                    return Either.right(value);
+                }
+            };
+
+    /**
+     * @return the factory of plain {@link Left} and {@link Right} instances.
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R> EitherFactory<L, R> instance() {
+        return (EitherFactory<L, R>) DEFAULT;
+    }
+
+    abstract Either<L, R> left(L value);
+
+    abstract Either<L, R> right(R value);
+
+    /**
+     * @return a holder to refill with every value emitted without queueing during one
+     * subscription, or null to wrap every value into a new instance.
+     */
+    ReusableEither<L, R> newHolder() {
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+package net.jokubasdargis.rxeither;
+
+/**
+ * Receives events of the observables and flowables created by {@link RxEither#from}, including
+ * the {@link Either3} to {@link Either6} merges, once installed through
+ * {@link RxEither#setMetricsListener(EitherMetrics)}.
+ *
+ * <p>Every method does nothing by default. Methods are called on whichever thread emits, sets or
+ * drains the merge, so implementations must be thread-safe and cheap, e.g. increment counters or
+ * record into a histogram.
+ */
+public abstract class EitherMetrics {
+
+    /**
+     * Called for every left value handed downstream.
+     *
+     * @param waitNanos the time the value spent waiting between the upstream {@code onNext} and
+     * its delivery downstream, zero if it was delivered directly.
+     */
+    public void onLeft(long waitNanos) { }
+
+    /**
+     * Called for every right value handed downstream.
+     *
+     * @param waitNanos the time the value spent waiting between the upstream {@code onNext} and
+     * its delivery downstream, zero if it was delivered directly.
+     */
+    public void onRight(long waitNanos) { }
+
+    /**
+     * Called for every value handed downstream by the merges of {@link Either3} to
+     * {@link Either6}, instead of {@link #onLeft(long)} and {@link #onRight(long)}.
+     *
+     * @param index the zero based index of the source of the value.
+     * @param waitNanos the time the value spent waiting between the upstream {@code onNext} and
+     * its delivery downstream, zero if it was delivered directly.
+     */
+    public void onValue(int index, long waitNanos) { }
+
+    /**
+     * Called whenever the queue of one side of an observable grows past its previous high-water
+     * mark within one subscription. Not reported for flowables, whose queues are bounded by their
+     * prefetch amount.
+     *
+     * @param left whether the queue is the one of the left side.
+     * @param size the new high-water mark.
+     */
+    public void onQueueHighWaterMark(boolean left, int size) { }
+
+    /**
+     * Called whenever the queue of one source of an {@link Either3} to {@link Either6} merge
+     * grows past its previous high-water mark within one subscription.
+     *
+     * @param index the zero based index of the source the queue belongs to.
+     * @param size the new high-water mark.
+     */
+    public void onQueueHighWaterMark(int index, int size) { }
+
+    /**
+     * Called whenever a pending left value is replaced by a newer one by
+     * {@link RxEither#fromConflated}.
+     */
+    public void onConflated() { }
+
+    /**
+     * Called whenever a left value arrives while the bounded left buffer of
+     * {@link RxEither#from(io.reactivex.Observable, io.reactivex.Observable, int,
+     * io.reactivex.functions.Action, io.reactivex.BackpressureOverflowStrategy)} is full, before
+     * the overflow strategy is applied.
+     */
+    public void onOverflow() { }
+
+    /**
+     * Called when a merged stream terminates with an error.
+     */
+    public void onError(Throwable e) { }
+
+    /**
+     * Called when a merged stream completes.
+     */
+    public void onComplete() { }
+
+    /**
+     * Called when a merged stream is disposed or cancelled before it terminated.
+     */
+    public void onDispose() { }
+}
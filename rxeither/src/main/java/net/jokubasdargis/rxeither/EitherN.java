@@ -0,0 +1,81 @@
+package net.jokubasdargis.rxeither;
+
+/**
+ * Common base of the flat unions {@link Either3} to {@link Either6}, holding a single value
+ * tagged with the index of its type. Unused type parameters of the narrower unions are
+ * {@link Void}, which lets {@link RxEither#filterFirst(io.reactivex.Observable)} to
+ * {@link RxEither#filterThird(io.reactivex.Observable)} accept any of them. The filters of the
+ * later types only accept the unions which have that type, through {@link AtLeast4} and
+ * {@link AtLeast5}.
+ *
+ * @param <A> The first type.
+ * @param <B> The second type.
+ * @param <C> The third type.
+ * @param <D> The fourth type.
+ * @param <E> The fifth type.
+ * @param <F> The sixth type.
+ */
+public abstract class EitherN<A, B, C, D, E, F> {
+
+    final int index;
+    final Object value;
+
+    EitherN(int index, Object value) {
+        this.index = index;
+        this.value = value;
+    }
+
+    /**
+     * @return the zero based index of the type of the held value.
+     */
+    public final int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + "index=" + index + ", value=" + value + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o != null && o.getClass() == getClass()) {
+            EitherN<?, ?, ?, ?, ?, ?> that = (EitherN<?, ?, ?, ?, ?, ?>) o;
+            return this.index == that.index && this.value.equals(that.value);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h *= 1000003;
+        h ^= this.index;
+        h *= 1000003;
+        h ^= this.value.hashCode();
+        return h;
+    }
+
+    /**
+     * Base of the unions with at least four types, {@link Either4} to {@link Either6}.
+     */
+    public abstract static class AtLeast4<A, B, C, D, E, F> extends EitherN<A, B, C, D, E, F> {
+
+        AtLeast4(int index, Object value) {
+            super(index, value);
+        }
+    }
+
+    /**
+     * Base of the unions with at least five types, {@link Either5} and {@link Either6}.
+     */
+    public abstract static class AtLeast5<A, B, C, D, E, F> extends AtLeast4<A, B, C, D, E, F> {
+
+        AtLeast5(int index, Object value) {
+            super(index, value);
+        }
+    }
+}
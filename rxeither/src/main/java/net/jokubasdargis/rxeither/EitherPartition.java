@@ -0,0 +1,44 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Left and right streams of an {@link Either} observable split by
+ * {@link RxEither#partition(Observable)}, both fed by a single upstream subscription.
+ *
+ * @param <L> The type of left value.
+ * @param <R> The type of right value.
+ */
+public final class EitherPartition<L, R> {
+
+    private final ObservablePartition<L, R> partition;
+
+    EitherPartition(ObservablePartition<L, R> partition) {
+        this.partition = partition;
+    }
+
+    /**
+     * @return the stream of left values, accepting a single observer.
+     */
+    public Observable<L> left() {
+        return partition.left;
+    }
+
+    /**
+     * @return the stream of right values, accepting a single observer.
+     */
+    public Observable<R> right() {
+        return partition.right;
+    }
+
+    /**
+     * Subscribes to the upstream without waiting for both sides to be observed. Values of a side
+     * which has no observer yet are dropped.
+     *
+     * @return the {@link Disposable} of the upstream subscription.
+     */
+    public Disposable connect() {
+        return partition.connect();
+    }
+}
@@ -0,0 +1,84 @@
+package net.jokubasdargis.rxeither;
+
+import net.jokubasdargis.rxeither.functions.ToLongFunction;
+
+/**
+ * Per side counts and sums of an {@link Either} stream drained by
+ * {@link RxEither#countPartitioned(io.reactivex.Observable)} or
+ * {@link RxEither#summarizePartitioned(io.reactivex.Observable, ToLongFunction, ToLongFunction)}.
+ */
+public final class EitherSummary {
+
+    private final long leftCount;
+    private final long rightCount;
+    private final long leftSum;
+    private final long rightSum;
+
+    EitherSummary(long leftCount, long rightCount, long leftSum, long rightSum) {
+        this.leftCount = leftCount;
+        this.rightCount = rightCount;
+        this.leftSum = leftSum;
+        this.rightSum = rightSum;
+    }
+
+    /**
+     * @return the number of left values.
+     */
+    public long leftCount() {
+        return leftCount;
+    }
+
+    /**
+     * @return the number of right values.
+     */
+    public long rightCount() {
+        return rightCount;
+    }
+
+    /**
+     * @return the sum of the left values as mapped by the summarizer, zero when only counting.
+     */
+    public long leftSum() {
+        return leftSum;
+    }
+
+    /**
+     * @return the sum of the right values as mapped by the summarizer, zero when only counting.
+     */
+    public long rightSum() {
+        return rightSum;
+    }
+
+    @Override
+    public String toString() {
+        return "EitherSummary{" + "leftCount=" + leftCount + ", rightCount=" + rightCount
+                + ", leftSum=" + leftSum + ", rightSum=" + rightSum + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof EitherSummary) {
+            EitherSummary that = (EitherSummary) o;
+            return leftCount == that.leftCount && rightCount == that.rightCount
+                    && leftSum == that.leftSum && rightSum == that.rightSum;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h *= 1000003;
+        h ^= (int) (leftCount ^ (leftCount >>> 32));
+        h *= 1000003;
+        h ^= (int) (rightCount ^ (rightCount >>> 32));
+        h *= 1000003;
+        h ^= (int) (leftSum ^ (leftSum >>> 32));
+        h *= 1000003;
+        h ^= (int) (rightSum ^ (rightSum >>> 32));
+        return h;
+    }
+}
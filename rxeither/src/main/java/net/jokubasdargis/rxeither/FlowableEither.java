@@ -0,0 +1,345 @@
+package net.jokubasdargis.rxeither;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.internal.queue.SpscArrayQueue;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.reactivex.internal.util.ExceptionHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Timed;
+
+/**
+ * Backpressure-aware counterpart of {@link ObservableEither}.
+ *
+ * <p>Each side prefetches up to {@code prefetch} values into its own bounded single-producer
+ * queue and is replenished in batches of three quarters of that amount as downstream consumes
+ * them, so a fast side can never run more than {@code prefetch} values ahead of a slow
+ * consumer. Values are only wrapped into {@link Either} when they are handed downstream.
+ *
+ * <p>With {@link Priority#RIGHT} the drain loop empties the right queue before it takes anything
+ * from the left one.
+ *
+ * <p>The {@link EitherMetrics} installed at subscription time, if any, is notified of every
+ * emission and terminal event, with queued values stored along with the time they arrived.
+ */
+final class FlowableEither<L, R> extends Flowable<Either<L, R>> {
+
+    private final Publisher<L> left;
+    private final Publisher<R> right;
+    private final int prefetch;
+    private final Priority priority;
+
+    FlowableEither(Publisher<L> left, Publisher<R> right, int prefetch, Priority priority) {
+        this.left = left;
+        this.right = right;
+        this.prefetch = prefetch;
+        this.priority = priority;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super Either<L, R>> subscriber) {
+        EitherCoordinator<L, R> parent = new EitherCoordinator<>(subscriber, prefetch,
+                priority == Priority.RIGHT, RxEither.getMetricsListener());
+        subscriber.onSubscribe(parent);
+        parent.subscribe(left, right);
+    }
+
+    static final class EitherCoordinator<L, R> implements Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<EitherCoordinator> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(EitherCoordinator.class, "wip");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<EitherCoordinator> REQUESTED =
+                AtomicLongFieldUpdater.newUpdater(EitherCoordinator.class, "requested");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<EitherCoordinator, Throwable> TERMINAL =
+                AtomicReferenceFieldUpdater.newUpdater(
+                        EitherCoordinator.class, Throwable.class, "terminal");
+
+        private final Subscriber<? super Either<L, R>> downstream;
+        private final EitherSubscriber<L> leftSubscriber;
+        private final EitherSubscriber<R> rightSubscriber;
+        private final boolean rightFirst;
+        private final EitherMetrics metrics;
+
+        private volatile int wip;
+        private volatile long requested;
+        private volatile Throwable terminal;
+        private volatile boolean cancelled;
+
+        private long emitted;
+
+        EitherCoordinator(Subscriber<? super Either<L, R>> downstream, int prefetch,
+                boolean rightFirst, EitherMetrics metrics) {
+            this.downstream = downstream;
+            this.rightFirst = rightFirst;
+            this.metrics = metrics;
+            this.leftSubscriber = new EitherSubscriber<>(this, prefetch);
+            this.rightSubscriber = new EitherSubscriber<>(this, prefetch);
+        }
+
+        void subscribe(Publisher<L> left, Publisher<R> right) {
+            left.subscribe(leftSubscriber);
+            if (!cancelled) {
+                right.subscribe(rightSubscriber);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                for (;;) {
+                    long r = requested;
+                    if (r == Long.MAX_VALUE) {
+                        break;
+                    }
+                    if (REQUESTED.compareAndSet(this, r, BackpressureHelper.addCap(r, n))) {
+                        break;
+                    }
+                }
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelSources();
+                if (WIP.getAndIncrement(this) == 0) {
+                    clearQueues();
+                }
+                if (metrics != null) {
+                    metrics.onDispose();
+                }
+            }
+        }
+
+        boolean isDone() {
+            return terminal != null || cancelled;
+        }
+
+        void innerError(Throwable e) {
+            if (TERMINAL.compareAndSet(this, null, e)) {
+                drain();
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        void innerComplete() {
+            if (TERMINAL.compareAndSet(this, null, ExceptionHelper.TERMINATED)) {
+                drain();
+            }
+        }
+
+        void drain() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+
+            int missed = 1;
+            Subscriber<? super Either<L, R>> a = downstream;
+            EitherSubscriber<L> ls = leftSubscriber;
+            EitherSubscriber<R> rs = rightSubscriber;
+            long e = emitted;
+
+            for (;;) {
+                long r = requested;
+
+                for (;;) {
+                    if (cancelled) {
+                        clearQueues();
+                        return;
+                    }
+
+                    Throwable t = terminal;
+                    if (t != null && t != ExceptionHelper.TERMINATED) {
+                        cancelled = true;
+                        cancelSources();
+                        clearQueues();
+                        a.onError(t);
+                        if (metrics != null) {
+                            metrics.onError(t);
+                        }
+                        return;
+                    }
+
+                    if (e == r) {
+                        if (t != null && ls.queue.isEmpty() && rs.queue.isEmpty()) {
+                            cancelled = true;
+                            cancelSources();
+                            a.onComplete();
+                            if (metrics != null) {
+                                metrics.onComplete();
+                            }
+                            return;
+                        }
+                        break;
+                    }
+
+                    if (rightFirst) {
+                        Object rv = rs.queue.poll();
+                        if (rv != null) {
+                            emit(a, rv, false);
+                            rs.consumed();
+                            e++;
+                            continue;
+                        }
+                    }
+
+                    boolean empty = true;
+
+                    Object lv = ls.queue.poll();
+                    if (lv != null) {
+                        empty = false;
+                        emit(a, lv, true);
+                        ls.consumed();
+                        e++;
+                    }
+
+                    if (e != r) {
+                        Object rv = rs.queue.poll();
+                        if (rv != null) {
+                            empty = false;
+                            emit(a, rv, false);
+                            rs.consumed();
+                            e++;
+                        }
+                    }
+
+                    if (empty) {
+                        if (t != null) {
+                            cancelled = true;
+                            cancelSources();
+                            a.onComplete();
+                            if (metrics != null) {
+                                metrics.onComplete();
+                            }
+                            return;
+                        }
+                        break;
+                    }
+                }
+
+                emitted = e;
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Wraps a value taken from one of the queues and hands it downstream, unwrapping the
+         * arrival time stored along with it when metrics are enabled.
+         */
+        @SuppressWarnings("unchecked")
+        private void emit(Subscriber<? super Either<L, R>> a, Object o, boolean left) {
+            EitherMetrics m = metrics;
+            if (m == null) {
+                a.onNext(left ? Either.<L, R>left((L) o) : Either.<L, R>right((R) o));
+                return;
+            }
+            Timed<?> timed = (Timed<?>) o;
+            Object v = timed.value();
+            long wait = System.nanoTime() - timed.time();
+            if (left) {
+                a.onNext(Either.<L, R>left((L) v));
+                m.onLeft(wait);
+            } else {
+                a.onNext(Either.<L, R>right((R) v));
+                m.onRight(wait);
+            }
+        }
+
+        private void cancelSources() {
+            SubscriptionHelper.cancel(leftSubscriber);
+            SubscriptionHelper.cancel(rightSubscriber);
+        }
+
+        private void clearQueues() {
+            leftSubscriber.queue.clear();
+            rightSubscriber.queue.clear();
+        }
+    }
+
+    static final class EitherSubscriber<T> extends AtomicReference<Subscription>
+            implements FlowableSubscriber<T> {
+
+        private static final long serialVersionUID = 3427418939361455276L;
+
+        final EitherCoordinator<?, ?> parent;
+        final SpscArrayQueue<Object> queue;
+
+        private final int prefetch;
+        private final int limit;
+
+        private int consumed;
+
+        EitherSubscriber(EitherCoordinator<?, ?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.setOnce(this, s)) {
+                s.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (parent.isDone()) {
+                return;
+            }
+            Object o = parent.metrics != null ? ObservableEither.timed(value) : value;
+            if (!queue.offer(o)) {
+                SubscriptionHelper.cancel(this);
+                onError(new MissingBackpressureException("Queue is full?!"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.innerComplete();
+        }
+
+        /**
+         * Called by the drain loop once per value taken from {@link #queue}.
+         */
+        void consumed() {
+            int c = consumed + 1;
+            if (c == limit) {
+                consumed = 0;
+                get().request(c);
+            } else {
+                consumed = c;
+            }
+        }
+    }
+}
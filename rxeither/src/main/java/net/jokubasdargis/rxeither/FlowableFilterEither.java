@@ -0,0 +1,196 @@
+package net.jokubasdargis.rxeither;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.fuseable.ConditionalSubscriber;
+import io.reactivex.internal.fuseable.QueueSubscription;
+import io.reactivex.internal.subscribers.BasicFuseableConditionalSubscriber;
+import io.reactivex.internal.subscribers.BasicFuseableSubscriber;
+
+/**
+ * Backpressure-aware counterpart of {@link ObservableFilterEither}.
+ *
+ * <p>Values of the other side are dropped without a round trip through {@code request(1)}
+ * whenever the upstream accepts a {@link ConditionalSubscriber}. Fusion requests, including thread
+ * boundary ones, are passed through to the upstream, as unwrapping runs no user code of this
+ * stage; the {@code Callable} of a {@link LazyEither} runs wherever the fused upstream is drained.
+ */
+final class FlowableFilterEither<L, R, T> extends Flowable<T> {
+
+    private final Publisher<? extends Either<L, R>> source;
+    private final boolean left;
+
+    static <L, R> Flowable<L> left(Publisher<? extends Either<L, R>> source) {
+        return new FlowableFilterEither<L, R, L>(source, true);
+    }
+
+    static <L, R> Flowable<R> right(Publisher<? extends Either<L, R>> source) {
+        return new FlowableFilterEither<L, R, R>(source, false);
+    }
+
+    private FlowableFilterEither(Publisher<? extends Either<L, R>> source, boolean left) {
+        this.source = source;
+        this.left = left;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Subscriber<? super T> subscriber) {
+        if (subscriber instanceof ConditionalSubscriber) {
+            source.subscribe(new FilterEitherConditionalSubscriber<L, R, T>(
+                    (ConditionalSubscriber<? super T>) subscriber, left));
+        } else {
+            source.subscribe(new FilterEitherSubscriber<L, R, T>(subscriber, left));
+        }
+    }
+
+    static final class FilterEitherSubscriber<L, R, T>
+            extends BasicFuseableSubscriber<Either<L, R>, T>
+            implements ConditionalSubscriber<Either<L, R>> {
+
+        private final boolean left;
+
+        FilterEitherSubscriber(Subscriber<? super T> actual, boolean left) {
+            super(actual);
+            this.left = left;
+        }
+
+        @Override
+        public void onNext(Either<L, R> either) {
+            if (!tryOnNext(either)) {
+                s.request(1);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryOnNext(Either<L, R> either) {
+            if (done) {
+                return false;
+            }
+            if (sourceMode != NONE) {
+                actual.onNext(null);
+                return true;
+            }
+            if (either.isLeft() == left) {
+                T v;
+                try {
+                    v = (T) either.value();
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    fail(ex);
+                    return true;
+                }
+                actual.onNext(v);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            QueueSubscription<Either<L, R>> qs = this.qs;
+            if (qs != null) {
+                int m = qs.requestFusion(mode);
+                if (m != NONE) {
+                    sourceMode = m;
+                }
+                return m;
+            }
+            return NONE;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T poll() throws Exception {
+            QueueSubscription<Either<L, R>> qs = this.qs;
+            for (;;) {
+                Either<L, R> either = qs.poll();
+                if (either == null) {
+                    return null;
+                }
+                if (either.isLeft() == left) {
+                    return (T) either.value();
+                }
+                if (sourceMode == ASYNC) {
+                    qs.request(1);
+                }
+            }
+        }
+    }
+
+    static final class FilterEitherConditionalSubscriber<L, R, T>
+            extends BasicFuseableConditionalSubscriber<Either<L, R>, T> {
+
+        private final boolean left;
+
+        FilterEitherConditionalSubscriber(ConditionalSubscriber<? super T> actual, boolean left) {
+            super(actual);
+            this.left = left;
+        }
+
+        @Override
+        public void onNext(Either<L, R> either) {
+            if (!tryOnNext(either)) {
+                s.request(1);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryOnNext(Either<L, R> either) {
+            if (done) {
+                return false;
+            }
+            if (sourceMode != NONE) {
+                return actual.tryOnNext(null);
+            }
+            if (either.isLeft() != left) {
+                return false;
+            }
+            T v;
+            try {
+                v = (T) either.value();
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                fail(ex);
+                return true;
+            }
+            return actual.tryOnNext(v);
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            QueueSubscription<Either<L, R>> qs = this.qs;
+            if (qs != null) {
+                int m = qs.requestFusion(mode);
+                if (m != NONE) {
+                    sourceMode = m;
+                }
+                return m;
+            }
+            return NONE;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T poll() throws Exception {
+            QueueSubscription<Either<L, R>> qs = this.qs;
+            for (;;) {
+                Either<L, R> either = qs.poll();
+                if (either == null) {
+                    return null;
+                }
+                if (either.isLeft() == left) {
+                    return (T) either.value();
+                }
+                if (sourceMode == ASYNC) {
+                    qs.request(1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Hashed timer wheel shared by every deadline of {@link RxEither#fromWithDeadline}.
+ *
+ * <p>Timeouts are intrusive nodes linked into one of {@link #WHEEL_SIZE} buckets, each guarded by
+ * its own lock, so that scheduling and cancelling a timeout is O(1) and allocates nothing. A
+ * single daemon thread visits one bucket every {@link #TICK_NANOS} and expires the timeouts whose
+ * deadline tick has been reached, which bounds the resolution of a deadline to one tick. While no
+ * timeout is pending the thread parks without a deadline until the next one is scheduled, and
+ * then catches up with the ticks it has slept through. Expiring a timeout must be cheap, as it
+ * holds up every later deadline, so anything more than flipping a flag belongs on a scheduler.
+ */
+final class HashedTimerWheel implements Runnable {
+
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    static final int WHEEL_SIZE = 512;
+
+    private static final AtomicIntegerFieldUpdater<HashedTimerWheel> PENDING =
+            AtomicIntegerFieldUpdater.newUpdater(HashedTimerWheel.class, "pending");
+
+    private final Bucket[] buckets;
+    private final long startNanos;
+    private final Thread thread;
+
+    /**
+     * The next tick to process, only written while holding the lock of the bucket of the tick
+     * that has just been processed.
+     */
+    private volatile long tick;
+
+    /**
+     * The number of linked timeouts, counted before linking and after unlinking.
+     */
+    private volatile int pending;
+
+    /**
+     * The time elapsed on a manual wheel, which has no thread.
+     */
+    private volatile long manualNanos;
+
+    private HashedTimerWheel(boolean manual) {
+        buckets = new Bucket[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets[i] = new Bucket();
+        }
+        startNanos = System.nanoTime();
+        if (manual) {
+            thread = null;
+        } else {
+            thread = new Thread(this, "RxEitherTimerWheel");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * @return the wheel shared by every deadline, started on first use.
+     */
+    static HashedTimerWheel instance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return a wheel without a thread, whose time only moves through {@link #advanceTimeBy}.
+     * Visible for testing.
+     */
+    static HashedTimerWheel manual() {
+        return new HashedTimerWheel(true);
+    }
+
+    /**
+     * Schedules the given timeout to expire once {@code delayNanos} have elapsed. The timeout
+     * must not be scheduled already.
+     */
+    void schedule(Timeout timeout, long delayNanos) {
+        long now = (elapsedNanos() + TICK_NANOS - 1) / TICK_NANOS;
+        long ticks = delayNanos / TICK_NANOS + (delayNanos % TICK_NANOS != 0 ? 1 : 0);
+        long target = Math.max(now + ticks, tick);
+        Bucket bucket = buckets[(int) (target & (WHEEL_SIZE - 1))];
+        boolean wasIdle = PENDING.getAndIncrement(this) == 0;
+        boolean missed;
+        synchronized (bucket) {
+            timeout.deadlineTick = target;
+            missed = tick > target;
+            if (!missed) {
+                bucket.link(timeout);
+            }
+        }
+        if (missed) {
+            PENDING.decrementAndGet(this);
+            try {
+                timeout.expire();
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                RxJavaPlugins.onError(ex);
+            }
+        } else if (wasIdle && thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Unlinks the given timeout unless it has expired already.
+     */
+    void cancel(Timeout timeout) {
+        Bucket bucket = timeout.bucket;
+        if (bucket != null) {
+            boolean unlinked = false;
+            synchronized (bucket) {
+                if (timeout.bucket == bucket) {
+                    bucket.unlink(timeout);
+                    unlinked = true;
+                }
+            }
+            if (unlinked) {
+                PENDING.decrementAndGet(this);
+            }
+        }
+    }
+
+    /**
+     * @return the number of timeouts scheduled and neither expired nor cancelled yet.
+     */
+    int pending() {
+        return pending;
+    }
+
+    /**
+     * Moves the time of a {@link #manual()} wheel forward, expiring the timeouts which became
+     * due on the calling thread. Visible for testing.
+     */
+    void advanceTimeBy(long delayNanos) {
+        manualNanos += delayNanos;
+        processDueTicks();
+    }
+
+    @Override
+    public void run() {
+        for (;;) {
+            if (pending == 0) {
+                LockSupport.park(this);
+                continue;
+            }
+            long wakeUp = (tick + 1) * TICK_NANOS - elapsedNanos();
+            if (wakeUp > 0L) {
+                LockSupport.parkNanos(this, wakeUp);
+                continue;
+            }
+            processDueTicks();
+        }
+    }
+
+    private long elapsedNanos() {
+        return thread != null ? System.nanoTime() - startNanos : manualNanos;
+    }
+
+    /**
+     * Processes every tick which has fully elapsed. After an idle period a single turn of the
+     * wheel is enough, as every bucket gets visited with a tick past the deadlines linked into it.
+     */
+    private void processDueTicks() {
+        long due = elapsedNanos() / TICK_NANOS;
+        for (long current = Math.max(tick, due - WHEEL_SIZE); current < due; current++) {
+            processTick(current);
+        }
+    }
+
+    private void processTick(long current) {
+        Bucket bucket = buckets[(int) (current & (WHEEL_SIZE - 1))];
+        Timeout expired = null;
+        int count = 0;
+        synchronized (bucket) {
+            Timeout t = bucket.head;
+            while (t != null) {
+                Timeout next = t.next;
+                if (t.deadlineTick <= current) {
+                    bucket.unlink(t);
+                    t.next = expired;
+                    expired = t;
+                    count++;
+                }
+                t = next;
+            }
+            tick = current + 1;
+        }
+        if (count != 0) {
+            PENDING.addAndGet(this, -count);
+        }
+
+        while (expired != null) {
+            Timeout next = expired.next;
+            expired.next = null;
+            try {
+                expired.expire();
+            } catch (Throwable ex) {
+                // fatal ones included, the only wheel thread has to survive for later deadlines
+                RxJavaPlugins.onError(ex);
+            }
+            expired = next;
+        }
+    }
+
+    /**
+     * A node of the wheel, extended by whatever has a deadline so that scheduling it allocates
+     * nothing. The links are guarded by the lock of the bucket the node is linked into, which
+     * is published through {@link #bucket} so that a cancelling thread can find that lock.
+     */
+    abstract static class Timeout {
+
+        volatile Bucket bucket;
+        Timeout prev;
+        Timeout next;
+        long deadlineTick;
+
+        /**
+         * Called once the deadline has passed, unless cancelled before: on the wheel thread, or
+         * on the scheduling thread if the deadline had already passed when it was scheduled.
+         */
+        abstract void expire();
+    }
+
+    static final class Bucket {
+
+        Timeout head;
+
+        void link(Timeout t) {
+            t.bucket = this;
+            t.prev = null;
+            t.next = head;
+            if (head != null) {
+                head.prev = t;
+            }
+            head = t;
+        }
+
+        void unlink(Timeout t) {
+            if (t.prev != null) {
+                t.prev.next = t.next;
+            } else {
+                head = t.next;
+            }
+            if (t.next != null) {
+                t.next.prev = t.prev;
+            }
+            t.bucket = null;
+            t.prev = null;
+            t.next = null;
+        }
+    }
+
+    private static final class Holder {
+
+        static final HashedTimerWheel INSTANCE = new HashedTimerWheel(false);
+    }
+}
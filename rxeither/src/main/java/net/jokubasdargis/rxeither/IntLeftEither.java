@@ -0,0 +1,251 @@
+package net.jokubasdargis.rxeither;
+
+import net.jokubasdargis.rxeither.functions.IntConsumer;
+import net.jokubasdargis.rxeither.functions.IntUnaryOperator;
+import net.jokubasdargis.rxeither.functions.ToIntFunction;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Cancellable;
+import io.reactivex.functions.Consumer;
+
+/**
+ * {@link Either} specialized for {@code int} left values, which are stored and handed to
+ * {@link IntConsumer}s and {@link IntUnaryOperator}s without boxing. The value is only boxed
+ * when it is accessed through the generic {@link Either} methods.
+ *
+ * <p>Instances are never equal to {@link Either}s created by {@link Either#left(Object)} or
+ * {@link Either#right(Object)}.
+ *
+ * @param <R> The type of right value.
+ */
+public abstract class IntLeftEither<R> extends PrimitiveLeftEither<Integer, R> {
+
+    /**
+     * Creates {@link IntLeftEither} instance for the given value as left.
+     */
+    public static <R> IntLeftEither<R> ofLeft(int value) {
+        return new LeftValue<>(value);
+    }
+
+    /**
+     * Creates {@link IntLeftEither} instance for the given value as right.
+     */
+    public static <R> IntLeftEither<R> ofRight(R value) {
+        return new RightValue<>(value);
+    }
+
+    IntLeftEither() { }
+
+    /**
+     * @return the factory unboxing left values into {@link IntLeftEither}s.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> EitherFactory<Integer, R> factory() {
+        return (EitherFactory<Integer, R>) Factory.INSTANCE;
+    }
+
+    /**
+     * Invokes the {@code left} consumer with the unboxed value if this is a left, the
+     * {@code right} consumer otherwise.
+     */
+    public abstract void continuedInt(IntConsumer left, Consumer<R> right);
+
+    /**
+     * @return the result of applying {@code left} to the unboxed value if this is a left, of
+     * applying {@code right} otherwise.
+     */
+    public abstract int joinToInt(IntUnaryOperator left, ToIntFunction<R> right);
+
+    private static final class LeftValue<R> extends IntLeftEither<R> {
+
+        private final int value;
+
+        LeftValue(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        Object value() {
+            return value;
+        }
+
+        @Override
+        public void continuedInt(IntConsumer left, Consumer<R> right) {
+            try {
+                left.accept(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public int joinToInt(IntUnaryOperator left, ToIntFunction<R> right) {
+            try {
+                return left.apply(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    private static final class RightValue<R> extends IntLeftEither<R> {
+
+        private final R value;
+
+        RightValue(R value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        Object value() {
+            return value;
+        }
+
+        @Override
+        public void continuedInt(IntConsumer left, Consumer<R> right) {
+            try {
+                right.accept(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public int joinToInt(IntUnaryOperator left, ToIntFunction<R> right) {
+            try {
+                return right.apply(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    /**
+     * @return a {@link Consumer} handing the unboxed value of left {@link IntLeftEither}s to the
+     * given {@link IntConsumer}, meant for operators which already checked the side.
+     */
+    static <R> Consumer<Either<Integer, R>> leftConsumer(IntConsumer consumer) {
+        return new LeftConsumer<>(consumer);
+    }
+
+    private static final class LeftConsumer<R> implements Consumer<Either<Integer, R>> {
+
+        private final IntConsumer consumer;
+
+        LeftConsumer(IntConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(Either<Integer, R> either) throws Exception {
+            consumer.accept(((LeftValue<R>) either).value);
+        }
+    }
+
+    /**
+     * @return an observable of the {@link IntLeftEither}s pushed by the given
+     * {@link OnSubscribe}, whose left values are never boxed on their way downstream.
+     */
+    static <R> Observable<IntLeftEither<R>> create(final OnSubscribe<R> source) {
+        return Observable.create(new ObservableOnSubscribe<IntLeftEither<R>>() {
+            @Override
+            public void subscribe(ObservableEmitter<IntLeftEither<R>> emitter) throws Exception {
+                source.subscribe(new EmitterAdapter<R>(emitter));
+            }
+        });
+    }
+
+    /**
+     * Pushes values into an observable created by {@link RxEither#createInt}, otherwise behaving
+     * as an {@link ObservableEmitter}.
+     *
+     * @param <R> The type of right value.
+     */
+    public interface Emitter<R> {
+
+        /**
+         * Emits the given value as a left without boxing it.
+         */
+        void onLeft(int value);
+
+        /**
+         * Emits the given value as a right.
+         */
+        void onRight(R value);
+
+        void onError(Throwable error);
+
+        void onComplete();
+
+        void setCancellable(Cancellable cancellable);
+
+        boolean isDisposed();
+    }
+
+    /**
+     * Called with a fresh {@link Emitter} for every observer of an observable created by
+     * {@link RxEither#createInt}.
+     *
+     * @param <R> The type of right value.
+     */
+    public interface OnSubscribe<R> {
+
+        void subscribe(Emitter<R> emitter) throws Exception;
+    }
+
+    private static final class EmitterAdapter<R>
+            extends AbstractEmitter<IntLeftEither<R>, R> implements Emitter<R> {
+
+        EmitterAdapter(ObservableEmitter<IntLeftEither<R>> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onLeft(int value) {
+            emitter.onNext(new LeftValue<R>(value));
+        }
+
+        @Override
+        IntLeftEither<R> right(R value) {
+            return new RightValue<R>(value);
+        }
+    }
+
+    private static final class Factory<R> extends EitherFactory<Integer, R> {
+
+        static final Factory<?> INSTANCE = new Factory<>();
+
+        @Override
+        Either<Integer, R> left(Integer value) {
+            return new LeftValue<>(value.intValue());
+        }
+
+        @Override
+        Either<Integer, R> right(R value) {
+            return new RightValue<>(value);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * Demultiplexes a single {@link Either} stream carrying the progress and results of many jobs,
+ * keyed by {@link RxEither#keyed(Observable, Function, Function)}, into per-key views.
+ *
+ * <p>The view of a key replays the latest left value of the key, emits the further left values
+ * and completes after the right value. Observers subscribing to a key whose right value has
+ * already arrived receive that right value and complete, as long as it is among the
+ * {@code retainedResults} most recent ones, none by default. Left values arriving for such a key
+ * are dropped. Observers subscribing to a key which has not been seen yet, or whose right value is
+ * no longer retained, wait for the key to be used (again). A key is forgotten once its right value
+ * is no longer retained, or once the last observer waiting for it is disposed before any of its
+ * values arrived.
+ *
+ * <p>Disposing the connection completes the views of every key which has not finished yet, and
+ * the views subscribed afterwards, like the completion of the source would.
+ *
+ * @param <K> The type of key.
+ * @param <L> The type of left values.
+ * @param <R> The type of right values.
+ */
+public final class KeyedEither<K, L, R> {
+
+    private final Observable<? extends Either<L, R>> source;
+    private final EitherDemux<K, L, R> demux;
+    private final AtomicBoolean connected = new AtomicBoolean();
+
+    KeyedEither(Observable<? extends Either<L, R>> source, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey, int retainedResults) {
+        this.source = source;
+        this.demux = new EitherDemux<K, L, R>(leftKey, rightKey, retainedResults);
+    }
+
+    /**
+     * @return the view of the given key, which does not subscribe to the source by itself.
+     * @see #connect()
+     */
+    public Observable<Either<L, R>> observe(K key) {
+        ObjectHelper.requireNonNull(key, "key is null");
+        return demux.observe(key);
+    }
+
+    /**
+     * Subscribes to the source once, routing its values to the views of their keys. Further calls
+     * return the same {@link Disposable}.
+     *
+     * @return the {@link Disposable} of the source subscription, completing every unfinished
+     * view when disposed.
+     */
+    public Disposable connect() {
+        if (connected.compareAndSet(false, true)) {
+            source.subscribe(demux);
+        }
+        return demux;
+    }
+
+    /**
+     * @return the number of keys currently known, for tests.
+     */
+    int size() {
+        return demux.size();
+    }
+}
@@ -0,0 +1,131 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.Callable;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * {@link Either} whose value is computed by a {@link Callable} the first time it is needed.
+ *
+ * <p>The side is known up front, so {@link #isLeft()} and {@link #isRight()} never compute the
+ * value. The callable is invoked at most once, unless it throws, in which case the next access
+ * tries again.
+ */
+final class LazyEither<L, R> extends Either<L, R> {
+
+    private static final EitherFactory<Object, Callable<?>> RIGHT_FACTORY =
+            new EitherFactory<Object, Callable<?>>() {
+                @Override
+                Either<Object, Callable<?>> left(Object value) {
+                    return Either.left(value);
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                Either<Object, Callable<?>> right(Callable<?> value) {
+                    return (Either<Object, Callable<?>>) (Either<?, ?>)
+                            new LazyEither<Object, Object>(value, false);
+                }
+            };
+
+    private final boolean left;
+    private volatile Callable<?> callable;
+    private Object value;
+
+    LazyEither(Callable<?> callable, boolean left) {
+        this.callable = callable;
+        this.left = left;
+    }
+
+    /**
+     * @return the factory wrapping left values into plain {@link Left}s and right
+     * {@link Callable}s into lazy rights, typed after the callables the merge receives.
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R> EitherFactory<L, Callable<? extends R>> rightFactory() {
+        return (EitherFactory<L, Callable<? extends R>>) (EitherFactory<?, ?>) RIGHT_FACTORY;
+    }
+
+    @Override
+    public boolean isLeft() {
+        return left;
+    }
+
+    @Override
+    public boolean isRight() {
+        return !left;
+    }
+
+    @Override
+    Object value() {
+        if (callable != null) {
+            synchronized (this) {
+                Callable<?> c = callable;
+                if (c != null) {
+                    try {
+                        value = ObjectHelper.requireNonNull(c.call(),
+                                "The callable returned a null value.");
+                    } catch (Exception e) {
+                        throw Exceptions.propagate(e);
+                    }
+                    callable = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<L> left, Consumer<R> right) {
+        Object v = value();
+        try {
+            if (this.left) {
+                left.accept((L) v);
+            } else {
+                right.accept((R) v);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R1> R1 join(Function<L, R1> left, Function<R, R1> right) {
+        Object v = value();
+        try {
+            return this.left ? left.apply((L) v) : right.apply((R) v);
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (left ? "Left" : "Right") + "{" + "value=" + value() + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof LazyEither) {
+            LazyEither<?, ?> that = (LazyEither<?, ?>) o;
+            return this.left == that.left && this.value().equals(that.value());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h *= 1000003;
+        h ^= this.value().hashCode();
+        return h;
+    }
+}
@@ -0,0 +1,251 @@
+package net.jokubasdargis.rxeither;
+
+import net.jokubasdargis.rxeither.functions.LongConsumer;
+import net.jokubasdargis.rxeither.functions.LongUnaryOperator;
+import net.jokubasdargis.rxeither.functions.ToLongFunction;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.ObservableOnSubscribe;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Cancellable;
+import io.reactivex.functions.Consumer;
+
+/**
+ * {@link Either} specialized for {@code long} left values, which are stored and handed to
+ * {@link LongConsumer}s and {@link LongUnaryOperator}s without boxing. The value is only boxed
+ * when it is accessed through the generic {@link Either} methods.
+ *
+ * <p>Instances are never equal to {@link Either}s created by {@link Either#left(Object)} or
+ * {@link Either#right(Object)}.
+ *
+ * @param <R> The type of right value.
+ */
+public abstract class LongLeftEither<R> extends PrimitiveLeftEither<Long, R> {
+
+    /**
+     * Creates {@link LongLeftEither} instance for the given value as left.
+     */
+    public static <R> LongLeftEither<R> ofLeft(long value) {
+        return new LeftValue<>(value);
+    }
+
+    /**
+     * Creates {@link LongLeftEither} instance for the given value as right.
+     */
+    public static <R> LongLeftEither<R> ofRight(R value) {
+        return new RightValue<>(value);
+    }
+
+    LongLeftEither() { }
+
+    /**
+     * @return the factory unboxing left values into {@link LongLeftEither}s.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> EitherFactory<Long, R> factory() {
+        return (EitherFactory<Long, R>) Factory.INSTANCE;
+    }
+
+    /**
+     * Invokes the {@code left} consumer with the unboxed value if this is a left, the
+     * {@code right} consumer otherwise.
+     */
+    public abstract void continuedLong(LongConsumer left, Consumer<R> right);
+
+    /**
+     * @return the result of applying {@code left} to the unboxed value if this is a left, of
+     * applying {@code right} otherwise.
+     */
+    public abstract long joinToLong(LongUnaryOperator left, ToLongFunction<R> right);
+
+    private static final class LeftValue<R> extends LongLeftEither<R> {
+
+        private final long value;
+
+        LeftValue(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        Object value() {
+            return value;
+        }
+
+        @Override
+        public void continuedLong(LongConsumer left, Consumer<R> right) {
+            try {
+                left.accept(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public long joinToLong(LongUnaryOperator left, ToLongFunction<R> right) {
+            try {
+                return left.apply(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    private static final class RightValue<R> extends LongLeftEither<R> {
+
+        private final R value;
+
+        RightValue(R value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        Object value() {
+            return value;
+        }
+
+        @Override
+        public void continuedLong(LongConsumer left, Consumer<R> right) {
+            try {
+                right.accept(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        @Override
+        public long joinToLong(LongUnaryOperator left, ToLongFunction<R> right) {
+            try {
+                return right.apply(value);
+            } catch (Exception e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+    }
+
+    /**
+     * @return a {@link Consumer} handing the unboxed value of left {@link LongLeftEither}s to the
+     * given {@link LongConsumer}, meant for operators which already checked the side.
+     */
+    static <R> Consumer<Either<Long, R>> leftConsumer(LongConsumer consumer) {
+        return new LeftConsumer<>(consumer);
+    }
+
+    private static final class LeftConsumer<R> implements Consumer<Either<Long, R>> {
+
+        private final LongConsumer consumer;
+
+        LeftConsumer(LongConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(Either<Long, R> either) throws Exception {
+            consumer.accept(((LeftValue<R>) either).value);
+        }
+    }
+
+    /**
+     * @return an observable of the {@link LongLeftEither}s pushed by the given
+     * {@link OnSubscribe}, whose left values are never boxed on their way downstream.
+     */
+    static <R> Observable<LongLeftEither<R>> create(final OnSubscribe<R> source) {
+        return Observable.create(new ObservableOnSubscribe<LongLeftEither<R>>() {
+            @Override
+            public void subscribe(ObservableEmitter<LongLeftEither<R>> emitter) throws Exception {
+                source.subscribe(new EmitterAdapter<R>(emitter));
+            }
+        });
+    }
+
+    /**
+     * Pushes values into an observable created by {@link RxEither#createLong}, otherwise behaving
+     * as an {@link ObservableEmitter}.
+     *
+     * @param <R> The type of right value.
+     */
+    public interface Emitter<R> {
+
+        /**
+         * Emits the given value as a left without boxing it.
+         */
+        void onLeft(long value);
+
+        /**
+         * Emits the given value as a right.
+         */
+        void onRight(R value);
+
+        void onError(Throwable error);
+
+        void onComplete();
+
+        void setCancellable(Cancellable cancellable);
+
+        boolean isDisposed();
+    }
+
+    /**
+     * Called with a fresh {@link Emitter} for every observer of an observable created by
+     * {@link RxEither#createLong}.
+     *
+     * @param <R> The type of right value.
+     */
+    public interface OnSubscribe<R> {
+
+        void subscribe(Emitter<R> emitter) throws Exception;
+    }
+
+    private static final class EmitterAdapter<R>
+            extends AbstractEmitter<LongLeftEither<R>, R> implements Emitter<R> {
+
+        EmitterAdapter(ObservableEmitter<LongLeftEither<R>> emitter) {
+            super(emitter);
+        }
+
+        @Override
+        public void onLeft(long value) {
+            emitter.onNext(new LeftValue<R>(value));
+        }
+
+        @Override
+        LongLeftEither<R> right(R value) {
+            return new RightValue<R>(value);
+        }
+    }
+
+    private static final class Factory<R> extends EitherFactory<Long, R> {
+
+        static final Factory<?> INSTANCE = new Factory<>();
+
+        @Override
+        Either<Long, R> left(Long value) {
+            return new LeftValue<>(value.longValue());
+        }
+
+        @Override
+        Either<Long, R> right(R value) {
+            return new RightValue<>(value);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.disposables.SequentialDisposable;
+import io.reactivex.internal.queue.MpscLinkedQueue;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Merges a left and a right source into runs of consecutive values of the same side, collected
+ * into lists.
+ *
+ * <p>Both sources add their values straight to the current run, without wrapping them into an
+ * {@link Either} first. A run is emitted as soon as the other side shows up, once it holds
+ * {@code maxSize} values, once {@code time} has passed since its first value when a
+ * {@link Scheduler} is given, and when either source completes, which like {@link RxEither#from}
+ * completes the merge. Runs are handed over through a queue drained by a single emitter, so runs
+ * closed by the timer and by the sources keep their order. Each new list is sized after the
+ * previous run of the same side.
+ */
+final class ObservableBufferEither<L, R> extends Observable<Either<List<L>, List<R>>> {
+
+    private final ObservableSource<L> left;
+    private final ObservableSource<R> right;
+    private final int maxSize;
+    private final long time;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+
+    ObservableBufferEither(ObservableSource<L> left, ObservableSource<R> right, int maxSize,
+            long time, TimeUnit unit, Scheduler scheduler) {
+        this.left = left;
+        this.right = right;
+        this.maxSize = maxSize;
+        this.time = time;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Either<List<L>, List<R>>> observer) {
+        Scheduler.Worker worker = scheduler != null ? scheduler.createWorker() : null;
+        BufferEitherCoordinator<L, R> parent =
+                new BufferEitherCoordinator<L, R>(observer, maxSize, time, unit, worker);
+        observer.onSubscribe(parent);
+        left.subscribe(parent.leftObserver);
+        if (!parent.isDisposed()) {
+            right.subscribe(parent.rightObserver);
+        }
+    }
+
+    static final class BufferEitherCoordinator<L, R> extends AtomicInteger implements Disposable {
+
+        private static final long serialVersionUID = -8196340407183815323L;
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final Observer<? super Either<List<L>, List<R>>> downstream;
+        private final int maxSize;
+        private final long time;
+        private final TimeUnit unit;
+        private final Scheduler.Worker worker;
+        private final MpscLinkedQueue<Either<List<L>, List<R>>> queue;
+        private final SequentialDisposable timer;
+        final SideObserver<L> leftObserver;
+        final SideObserver<R> rightObserver;
+
+        // Guarded by this.
+        private List<Object> buffer;
+        private boolean bufferLeft;
+        private long run;
+        private int lastLeftSize;
+        private int lastRightSize;
+
+        private volatile boolean done;
+        private Throwable error;
+        private volatile boolean disposed;
+
+        BufferEitherCoordinator(Observer<? super Either<List<L>, List<R>>> downstream, int maxSize,
+                long time, TimeUnit unit, Scheduler.Worker worker) {
+            this.downstream = downstream;
+            this.maxSize = maxSize;
+            this.time = time;
+            this.unit = unit;
+            this.worker = worker;
+            this.queue = new MpscLinkedQueue<>();
+            this.timer = new SequentialDisposable();
+            this.lastLeftSize = Math.min(maxSize, INITIAL_CAPACITY);
+            this.lastRightSize = lastLeftSize;
+            this.leftObserver = new SideObserver<L>(this, true);
+            this.rightObserver = new SideObserver<R>(this, false);
+        }
+
+        void innerNext(boolean left, Object v) {
+            if (done) {
+                return;
+            }
+            long scheduleRun = -1L;
+            synchronized (this) {
+                if (done) {
+                    // the other source has terminated concurrently
+                    return;
+                }
+                List<Object> b = buffer;
+                if (b != null && bufferLeft != left) {
+                    closeRun();
+                    b = null;
+                }
+                boolean opened = b == null;
+                if (opened) {
+                    b = new ArrayList<>(left ? lastLeftSize : lastRightSize);
+                    buffer = b;
+                    bufferLeft = left;
+                }
+                b.add(v);
+                if (b.size() == maxSize) {
+                    closeRun();
+                } else if (opened && worker != null) {
+                    scheduleRun = run;
+                }
+            }
+            if (scheduleRun >= 0L) {
+                schedule(scheduleRun);
+            }
+            drain();
+        }
+
+        void innerError(Throwable e) {
+            boolean first;
+            synchronized (this) {
+                first = !done;
+                if (first) {
+                    buffer = null;
+                    error = e;
+                    done = true;
+                }
+            }
+            if (!first) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            disposeSources();
+            drain();
+        }
+
+        void innerComplete() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (buffer != null) {
+                    closeRun();
+                }
+                done = true;
+            }
+            disposeSources();
+            drain();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                disposeSources();
+                disposeTimer();
+                if (getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        /**
+         * Starts the timer of the given run outside of the lock, keeping it only if that run is
+         * still open by then.
+         */
+        private void schedule(long id) {
+            Disposable d = worker.schedule(new Timeout(this, id), time, unit);
+            synchronized (this) {
+                if (run == id && buffer != null) {
+                    timer.update(d);
+                    return;
+                }
+            }
+            d.dispose();
+        }
+
+        void timeout(long id) {
+            synchronized (this) {
+                if (run != id || buffer == null) {
+                    return;
+                }
+                closeRun();
+            }
+            drain();
+        }
+
+        /**
+         * Queues the current run, must be called while holding the lock.
+         */
+        @SuppressWarnings("unchecked")
+        private void closeRun() {
+            List<Object> b = buffer;
+            buffer = null;
+            run++;
+            if (bufferLeft) {
+                lastLeftSize = b.size();
+                queue.offer(Either.<List<L>, List<R>>left((List<L>) (List<?>) b));
+            } else {
+                lastRightSize = b.size();
+                queue.offer(Either.<List<L>, List<R>>right((List<R>) (List<?>) b));
+            }
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            Observer<? super Either<List<L>, List<R>>> a = downstream;
+            MpscLinkedQueue<Either<List<L>, List<R>>> q = queue;
+
+            for (;;) {
+                for (;;) {
+                    if (disposed) {
+                        q.clear();
+                        return;
+                    }
+
+                    boolean d = done;
+                    if (d && error != null) {
+                        q.clear();
+                        disposeTimer();
+                        a.onError(error);
+                        return;
+                    }
+
+                    Either<List<L>, List<R>> v = q.poll();
+                    if (v == null) {
+                        if (d) {
+                            disposeTimer();
+                            a.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+
+                    a.onNext(v);
+                }
+
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void disposeSources() {
+            DisposableHelper.dispose(leftObserver);
+            DisposableHelper.dispose(rightObserver);
+        }
+
+        private void disposeTimer() {
+            timer.dispose();
+            if (worker != null) {
+                worker.dispose();
+            }
+        }
+    }
+
+    static final class SideObserver<T> extends AtomicReference<Disposable>
+            implements Observer<T> {
+
+        private static final long serialVersionUID = 2420466387926498315L;
+
+        private final BufferEitherCoordinator<?, ?> parent;
+        private final boolean left;
+
+        SideObserver(BufferEitherCoordinator<?, ?> parent, boolean left) {
+            this.parent = parent;
+            this.left = left;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(T value) {
+            parent.innerNext(left, value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.innerComplete();
+        }
+    }
+
+    static final class Timeout implements Runnable {
+
+        private final BufferEitherCoordinator<?, ?> parent;
+        private final long id;
+
+        Timeout(BufferEitherCoordinator<?, ?> parent, long id) {
+            this.parent = parent;
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            parent.timeout(id);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+
+/**
+ * Shares a single subscription to an {@link Either} stream and replays the latest left value and
+ * the last {@code rightCount} right values to every observer before it goes live, keeping their
+ * original order.
+ *
+ * <p>Rights are kept in a singly linked list which the upstream appends to and trims from the
+ * head, the latest left in a single slot tagged with its position in the stream. Each observer
+ * walks the list at its own pace, so neither side of the cache ever takes a lock.
+ *
+ * <p>The upstream is subscribed to by the first observer and disposed once every observer has
+ * gone before it terminated, after which the next observer starts over with an empty cache. Once
+ * the upstream has terminated, the cache and the terminal event are replayed to every later
+ * observer.
+ */
+final class ObservableCacheLatest<L, R> extends Observable<Either<L, R>> {
+
+    private final ObservableSource<Either<L, R>> source;
+    private final int rightCount;
+    private final AtomicReference<CacheState<L, R>> current;
+
+    ObservableCacheLatest(ObservableSource<Either<L, R>> source, int rightCount) {
+        this.source = source;
+        this.rightCount = rightCount;
+        this.current = new AtomicReference<>();
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Either<L, R>> observer) {
+        CacheDisposable<L, R> inner = new CacheDisposable<>(observer);
+        observer.onSubscribe(inner);
+
+        for (;;) {
+            CacheState<L, R> state = current.get();
+            if (state == null || state.isDisposed()) {
+                CacheState<L, R> fresh = new CacheState<>(rightCount);
+                if (!current.compareAndSet(state, fresh)) {
+                    continue;
+                }
+                state = fresh;
+            }
+            inner.state = state;
+            if (state.add(inner)) {
+                if (inner.cancelled) {
+                    state.remove(inner);
+                    return;
+                }
+                state.connect(source);
+                inner.drain();
+                return;
+            }
+        }
+    }
+
+    static final class Node<L, R> extends AtomicReference<Node<L, R>> {
+
+        private static final long serialVersionUID = 4914213298011376540L;
+
+        final Either<L, R> value;
+        final long index;
+
+        Node(Either<L, R> value, long index) {
+            this.value = value;
+            this.index = index;
+        }
+    }
+
+    static final class CacheState<L, R> extends AtomicReference<Disposable>
+            implements Observer<Either<L, R>>, Disposable {
+
+        private static final long serialVersionUID = -3542374913470787640L;
+
+        private static final CacheDisposable<?, ?>[] EMPTY = new CacheDisposable<?, ?>[0];
+
+        private static final CacheDisposable<?, ?>[] DISPOSED = new CacheDisposable<?, ?>[0];
+
+        private final int rightCount;
+        private final AtomicReference<CacheDisposable<L, R>[]> observers;
+        private final AtomicBoolean connected;
+
+        /**
+         * Node before the oldest cached right, only moved by the upstream.
+         */
+        volatile Node<L, R> head;
+        volatile Node<L, R> latestLeft;
+        volatile boolean done;
+        Throwable error;
+
+        private Node<L, R> tail;
+        private int size;
+        private long index;
+
+        CacheState(int rightCount) {
+            this.rightCount = rightCount;
+            this.observers = new AtomicReference<CacheDisposable<L, R>[]>(
+                    CacheState.<L, R>cast(EMPTY));
+            this.connected = new AtomicBoolean();
+            Node<L, R> n = new Node<>(null, -1L);
+            this.tail = n;
+            this.head = n;
+        }
+
+        void connect(ObservableSource<Either<L, R>> source) {
+            if (!connected.get() && connected.compareAndSet(false, true)) {
+                source.subscribe(this);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(Either<L, R> either) {
+            Node<L, R> n = new Node<>(either, index++);
+            if (either.isLeft()) {
+                latestLeft = n;
+            } else {
+                tail.set(n);
+                tail = n;
+                if (++size > rightCount) {
+                    head = head.get();
+                    size--;
+                }
+            }
+            for (CacheDisposable<L, R> inner : observers.get()) {
+                inner.drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            for (CacheDisposable<L, R> inner : observers.get()) {
+                inner.drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            for (CacheDisposable<L, R> inner : observers.get()) {
+                inner.drain();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return observers.get() == DISPOSED;
+        }
+
+        boolean add(CacheDisposable<L, R> inner) {
+            for (;;) {
+                CacheDisposable<L, R>[] a = observers.get();
+                if (a == DISPOSED) {
+                    return false;
+                }
+                int n = a.length;
+                CacheDisposable<L, R>[] b = cast(new CacheDisposable<?, ?>[n + 1]);
+                System.arraycopy(a, 0, b, 0, n);
+                b[n] = inner;
+                if (observers.compareAndSet(a, b)) {
+                    return true;
+                }
+            }
+        }
+
+        void remove(CacheDisposable<L, R> inner) {
+            for (;;) {
+                CacheDisposable<L, R>[] a = observers.get();
+                int n = a.length;
+                int j = -1;
+                for (int i = 0; i < n; i++) {
+                    if (a[i] == inner) {
+                        j = i;
+                        break;
+                    }
+                }
+                if (j < 0) {
+                    return;
+                }
+                CacheDisposable<L, R>[] b;
+                if (n == 1) {
+                    b = cast(done ? EMPTY : DISPOSED);
+                } else {
+                    b = cast(new CacheDisposable<?, ?>[n - 1]);
+                    System.arraycopy(a, 0, b, 0, j);
+                    System.arraycopy(a, j + 1, b, j, n - j - 1);
+                }
+                if (observers.compareAndSet(a, b)) {
+                    if (b == DISPOSED) {
+                        dispose();
+                    }
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <L, R> CacheDisposable<L, R>[] cast(CacheDisposable<?, ?>[] observers) {
+            return (CacheDisposable<L, R>[]) observers;
+        }
+    }
+
+    static final class CacheDisposable<L, R> extends AtomicInteger implements Disposable {
+
+        private static final long serialVersionUID = -1201931472738916397L;
+
+        private final Observer<? super Either<L, R>> downstream;
+
+        volatile CacheState<L, R> state;
+        volatile boolean cancelled;
+
+        /**
+         * Last right node and stream index of the last left delivered, only touched while
+         * draining.
+         */
+        private Node<L, R> node;
+        private long leftIndex = -1L;
+
+        CacheDisposable(Observer<? super Either<L, R>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                CacheState<L, R> s = state;
+                if (s != null) {
+                    s.remove(this);
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            Observer<? super Either<L, R>> a = downstream;
+            CacheState<L, R> s = state;
+
+            for (;;) {
+                Node<L, R> n = node;
+                if (n == null) {
+                    n = s.head;
+                }
+
+                for (;;) {
+                    if (cancelled) {
+                        node = null;
+                        return;
+                    }
+
+                    boolean d = s.done;
+                    Node<L, R> next = n.get();
+                    Node<L, R> left = s.latestLeft;
+
+                    if (left != null && left.index > leftIndex
+                            && (next == null || left.index < next.index)) {
+                        leftIndex = left.index;
+                        a.onNext(left.value);
+                        continue;
+                    }
+
+                    if (next != null) {
+                        n = next;
+                        a.onNext(next.value);
+                        continue;
+                    }
+
+                    if (d) {
+                        node = null;
+                        Throwable e = s.error;
+                        if (e != null) {
+                            a.onError(e);
+                        } else {
+                            a.onComplete();
+                        }
+                        return;
+                    }
+                    break;
+                }
+
+                node = n;
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
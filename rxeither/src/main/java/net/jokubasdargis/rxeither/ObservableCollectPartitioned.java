@@ -0,0 +1,124 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.disposables.EmptyDisposable;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Drains an {@link Either} stream into a left and a right container with a single upstream
+ * subscription, emitting both once the upstream completes.
+ */
+final class ObservableCollectPartitioned<L, R, CL extends Collection<? super L>,
+        CR extends Collection<? super R>> extends Single<Partitioned<CL, CR>> {
+
+    private final ObservableSource<? extends Either<L, R>> source;
+    private final Callable<? extends CL> leftSupplier;
+    private final Callable<? extends CR> rightSupplier;
+
+    ObservableCollectPartitioned(ObservableSource<? extends Either<L, R>> source,
+            Callable<? extends CL> leftSupplier, Callable<? extends CR> rightSupplier) {
+        this.source = source;
+        this.leftSupplier = leftSupplier;
+        this.rightSupplier = rightSupplier;
+    }
+
+    @Override
+    protected void subscribeActual(SingleObserver<? super Partitioned<CL, CR>> observer) {
+        CL left;
+        CR right;
+        try {
+            left = ObjectHelper.requireNonNull(leftSupplier.call(),
+                    "The left supplier returned a null collection.");
+            right = ObjectHelper.requireNonNull(rightSupplier.call(),
+                    "The right supplier returned a null collection.");
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            EmptyDisposable.error(ex, observer);
+            return;
+        }
+        source.subscribe(new CollectObserver<L, R, CL, CR>(observer, left, right));
+    }
+
+    static final class CollectObserver<L, R, CL extends Collection<? super L>,
+            CR extends Collection<? super R>> implements Observer<Either<L, R>>, Disposable {
+
+        private final SingleObserver<? super Partitioned<CL, CR>> actual;
+        private final CL left;
+        private final CR right;
+
+        private Disposable s;
+        private boolean done;
+
+        CollectObserver(SingleObserver<? super Partitioned<CL, CR>> actual, CL left, CR right) {
+            this.actual = actual;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void onSubscribe(Disposable s) {
+            if (DisposableHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(Either<L, R> either) {
+            if (done) {
+                return;
+            }
+            try {
+                if (either.isLeft()) {
+                    left.add((L) either.value());
+                } else {
+                    right.add((R) either.value());
+                }
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                s.dispose();
+                onError(ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onSuccess(new Partitioned<CL, CR>(left, right));
+        }
+
+        @Override
+        public void dispose() {
+            s.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return s.isDisposed();
+        }
+    }
+}
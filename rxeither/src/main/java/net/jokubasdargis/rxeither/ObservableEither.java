@@ -0,0 +1,623 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.functions.Action;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.internal.util.ExceptionHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Timed;
+
+/**
+ * Merges a left and a right source into a single serialized stream of {@link Either}s.
+ *
+ * <p>Whichever side gets to the coordinator first emits directly, the other one queues its
+ * value and leaves it to the current emitter to drain. Each side has its own single-producer
+ * queue which is only allocated once that side loses a race. The first terminal event of
+ * either side terminates the merged stream: errors are delivered eagerly, completion after
+ * everything already queued has been emitted.
+ *
+ * <p>In conflating mode the left side keeps a single slot instead of a queue: a left value
+ * arriving while the previous one is still waiting to be drained replaces it. Right values are
+ * always queued.
+ *
+ * <p>With a left capacity the left side buffers at most that many values in a lock-free ring
+ * buffer and applies its {@link BackpressureOverflowStrategy} to any further value which loses a
+ * race while the buffer is full. The buffer only fills while the downstream is busy in
+ * {@code onNext}, so an asynchronous downstream which merely queues values, such as
+ * {@code observeOn}, is not held to the capacity. Right values are always queued.
+ *
+ * <p>When the factory hands out a holder, values emitted without queueing are refilled into that
+ * single instance instead of being wrapped, while queued values still get their own instance as
+ * they may outlive the emission of a later value.
+ *
+ * <p>With {@link Priority#RIGHT} the drain loop empties the right queue before it takes anything
+ * from the left one.
+ *
+ * <p>The {@link EitherMetrics} installed at subscription time, if any, is notified of every
+ * emission and terminal event. Queued values are then stored with the time they arrived so that
+ * the drain loop can report how long they waited.
+ */
+final class ObservableEither<L, R> extends Observable<Either<L, R>> {
+
+    private final ObservableSource<L> left;
+    private final ObservableSource<R> right;
+    private final EitherFactory<L, R> factory;
+    private final boolean conflateLeft;
+    private final Priority priority;
+    private final int leftCapacity;
+    private final Action onOverflow;
+    private final BackpressureOverflowStrategy overflowStrategy;
+
+    ObservableEither(ObservableSource<L> left, ObservableSource<R> right,
+            EitherFactory<L, R> factory) {
+        this(left, right, factory, false, Priority.FAIR);
+    }
+
+    ObservableEither(ObservableSource<L> left, ObservableSource<R> right,
+            EitherFactory<L, R> factory, boolean conflateLeft, Priority priority) {
+        this(left, right, factory, conflateLeft, priority, 0, null, null);
+    }
+
+    ObservableEither(ObservableSource<L> left, ObservableSource<R> right,
+            EitherFactory<L, R> factory, int leftCapacity, Action onOverflow,
+            BackpressureOverflowStrategy overflowStrategy) {
+        this(left, right, factory, false, Priority.FAIR, leftCapacity, onOverflow,
+                overflowStrategy);
+    }
+
+    private ObservableEither(ObservableSource<L> left, ObservableSource<R> right,
+            EitherFactory<L, R> factory, boolean conflateLeft, Priority priority,
+            int leftCapacity, Action onOverflow, BackpressureOverflowStrategy overflowStrategy) {
+        this.left = left;
+        this.right = right;
+        this.factory = factory;
+        this.conflateLeft = conflateLeft;
+        this.priority = priority;
+        this.leftCapacity = leftCapacity;
+        this.onOverflow = onOverflow;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Either<L, R>> observer) {
+        EitherCoordinator<L, R> parent =
+                new EitherCoordinator<>(observer, this, RxEither.getMetricsListener());
+        observer.onSubscribe(parent);
+        parent.subscribe(left, right);
+    }
+
+    private EitherObserver<L, R, L> createLeftObserver(EitherCoordinator<L, R> parent) {
+        if (conflateLeft) {
+            return new ConflatedLeftObserver<>(parent);
+        }
+        if (leftCapacity > 0) {
+            return new BoundedLeftObserver<>(parent, leftCapacity, onOverflow, overflowStrategy);
+        }
+        return new LeftObserver<>(parent);
+    }
+
+    static final class EitherCoordinator<L, R> implements Disposable {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<EitherCoordinator> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(EitherCoordinator.class, "wip");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<EitherCoordinator, Throwable> TERMINAL =
+                AtomicReferenceFieldUpdater.newUpdater(
+                        EitherCoordinator.class, Throwable.class, "terminal");
+
+        private final Observer<? super Either<L, R>> downstream;
+        private final EitherFactory<L, R> factory;
+        private final ReusableEither<L, R> holder;
+        private final EitherObserver<L, R, L> leftObserver;
+        private final RightObserver<L, R> rightObserver;
+        private final boolean rightFirst;
+        private final EitherMetrics metrics;
+
+        private volatile int wip;
+        /**
+         * The first error of either side, or {@link ExceptionHelper#TERMINATED} once the first
+         * side has completed.
+         */
+        private volatile Throwable terminal;
+        private volatile boolean cancelled;
+
+        EitherCoordinator(Observer<? super Either<L, R>> downstream,
+                ObservableEither<L, R> source, EitherMetrics metrics) {
+            this.downstream = downstream;
+            this.rightFirst = source.priority == Priority.RIGHT;
+            this.metrics = metrics;
+            this.factory = source.factory;
+            this.holder = factory.newHolder();
+            this.leftObserver = source.createLeftObserver(this);
+            this.rightObserver = new RightObserver<>(this);
+        }
+
+        void subscribe(ObservableSource<L> left, ObservableSource<R> right) {
+            left.subscribe(leftObserver);
+            if (!cancelled) {
+                right.subscribe(rightObserver);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                disposeSources();
+                if (WIP.getAndIncrement(this) == 0) {
+                    clearQueues();
+                }
+                if (metrics != null) {
+                    metrics.onDispose();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+
+        boolean isDone() {
+            return terminal != null || cancelled;
+        }
+
+        <T> void innerNext(EitherObserver<L, R, T> inner, T value) {
+            if (wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+                if (!cancelled) {
+                    ReusableEither<L, R> h = holder;
+                    Either<L, R> v = h != null
+                            ? h.set(inner == leftObserver, value) : inner.wrap(value);
+                    downstream.onNext(v);
+                    if (metrics != null) {
+                        record(metrics, v, 0L);
+                    }
+                }
+                if (WIP.decrementAndGet(this) == 0) {
+                    return;
+                }
+            } else {
+                inner.offer(inner.wrap(value));
+                if (WIP.getAndIncrement(this) != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        void innerError(Throwable e) {
+            if (TERMINAL.compareAndSet(this, null, e)) {
+                drain();
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        void innerComplete() {
+            if (TERMINAL.compareAndSet(this, null, ExceptionHelper.TERMINATED)) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            if (WIP.getAndIncrement(this) == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            Observer<? super Either<L, R>> a = downstream;
+
+            for (;;) {
+                for (;;) {
+                    if (cancelled) {
+                        clearQueues();
+                        return;
+                    }
+
+                    Throwable t = terminal;
+                    if (t != null && t != ExceptionHelper.TERMINATED) {
+                        cancelled = true;
+                        disposeSources();
+                        clearQueues();
+                        a.onError(t);
+                        if (metrics != null) {
+                            metrics.onError(t);
+                        }
+                        return;
+                    }
+
+                    Object v;
+                    if (rightFirst) {
+                        v = rightObserver.poll();
+                        if (v != null) {
+                            emit(a, v);
+                            continue;
+                        }
+                    }
+
+                    boolean empty = true;
+
+                    v = leftObserver.poll();
+                    if (v != null) {
+                        empty = false;
+                        emit(a, v);
+                    }
+
+                    v = rightObserver.poll();
+                    if (v != null) {
+                        empty = false;
+                        emit(a, v);
+                    }
+
+                    if (empty) {
+                        if (t != null) {
+                            cancelled = true;
+                            disposeSources();
+                            a.onComplete();
+                            if (metrics != null) {
+                                metrics.onComplete();
+                            }
+                            return;
+                        }
+                        break;
+                    }
+                }
+
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Hands a value taken from one of the buffers downstream, unwrapping the arrival time
+         * stored along with it when metrics are enabled.
+         */
+        @SuppressWarnings("unchecked")
+        private void emit(Observer<? super Either<L, R>> a, Object o) {
+            EitherMetrics m = metrics;
+            if (m == null) {
+                a.onNext((Either<L, R>) o);
+                return;
+            }
+            Timed<Either<L, R>> timed = (Timed<Either<L, R>>) o;
+            Either<L, R> v = timed.value();
+            long wait = System.nanoTime() - timed.time();
+            a.onNext(v);
+            record(m, v, wait);
+        }
+
+        private static void record(EitherMetrics m, Either<?, ?> v, long waitNanos) {
+            if (v.isLeft()) {
+                m.onLeft(waitNanos);
+            } else {
+                m.onRight(waitNanos);
+            }
+        }
+
+        private void disposeSources() {
+            DisposableHelper.dispose(leftObserver);
+            DisposableHelper.dispose(rightObserver);
+        }
+
+        private void clearQueues() {
+            leftObserver.clear();
+            rightObserver.clear();
+        }
+    }
+
+    abstract static class EitherObserver<L, R, T> extends AtomicReference<Disposable>
+            implements Observer<T> {
+
+        private static final long serialVersionUID = -1592270451513838346L;
+
+        final EitherCoordinator<L, R> parent;
+
+        /**
+         * Written only by this side's producer, read by whoever drains.
+         */
+        private volatile SpscLinkedArrayQueue<Object> queue;
+
+        /**
+         * Largest queue size seen so far, only maintained when metrics are enabled.
+         */
+        private int highWaterMark;
+
+        EitherObserver(EitherCoordinator<L, R> parent) {
+            this.parent = parent;
+        }
+
+        abstract Either<L, R> wrap(T value);
+
+        /**
+         * Buffers a value which lost the race to the emitter, called by this side's producer only.
+         */
+        void offer(Either<L, R> value) {
+            SpscLinkedArrayQueue<Object> q = queue;
+            if (q == null) {
+                q = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+                queue = q;
+            }
+            EitherMetrics m = parent.metrics;
+            if (m == null) {
+                q.offer(value);
+                return;
+            }
+            q.offer(timed(value));
+            int size = q.size();
+            if (size > highWaterMark) {
+                highWaterMark = size;
+                m.onQueueHighWaterMark(value.isLeft(), size);
+            }
+        }
+
+        /**
+         * @return the value buffered by {@link #offer(Either)}, wrapped in a {@link Timed} when
+         * metrics are enabled.
+         */
+        Object poll() {
+            SpscLinkedArrayQueue<Object> q = queue;
+            return q != null ? q.poll() : null;
+        }
+
+        void clear() {
+            SpscLinkedArrayQueue<Object> q = queue;
+            if (q != null) {
+                q.clear();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (!parent.isDone()) {
+                parent.innerNext(this, value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.innerComplete();
+        }
+    }
+
+    static <T> Timed<T> timed(T value) {
+        return new Timed<>(value, System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    static final class LeftObserver<L, R> extends EitherObserver<L, R, L> {
+
+        private static final long serialVersionUID = 4405823328424498392L;
+
+        LeftObserver(EitherCoordinator<L, R> parent) {
+            super(parent);
+        }
+
+        @Override
+        Either<L, R> wrap(L value) {
+            return parent.factory.left(value);
+        }
+    }
+
+    static final class ConflatedLeftObserver<L, R> extends EitherObserver<L, R, L> {
+
+        private static final long serialVersionUID = -2409311536426287035L;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ConflatedLeftObserver, Object> LATEST =
+                AtomicReferenceFieldUpdater.newUpdater(
+                        ConflatedLeftObserver.class, Object.class, "latest");
+
+        private volatile Object latest;
+
+        ConflatedLeftObserver(EitherCoordinator<L, R> parent) {
+            super(parent);
+        }
+
+        @Override
+        Either<L, R> wrap(L value) {
+            return parent.factory.left(value);
+        }
+
+        @Override
+        void offer(Either<L, R> value) {
+            EitherMetrics m = parent.metrics;
+            if (m == null) {
+                latest = value;
+            } else if (LATEST.getAndSet(this, timed(value)) != null) {
+                m.onConflated();
+            }
+        }
+
+        @Override
+        Object poll() {
+            return latest != null ? LATEST.getAndSet(this, null) : null;
+        }
+
+        @Override
+        void clear() {
+            latest = null;
+        }
+    }
+
+    /**
+     * Keeps the queued left values in a fixed ring of slots, each stamped with a sequence number
+     * telling the single producer whether it is free and the drain loop whether it holds a value.
+     * As the producer may evict the oldest value itself, values are taken by a CAS on the
+     * consumer index, so neither path needs a lock.
+     */
+    static final class BoundedLeftObserver<L, R> extends EitherObserver<L, R, L> {
+
+        private static final long serialVersionUID = 2872301546307474863L;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<BoundedLeftObserver> CONSUMER_INDEX =
+                AtomicLongFieldUpdater.newUpdater(BoundedLeftObserver.class, "consumerIndex");
+
+        private final Action onOverflow;
+        private final BackpressureOverflowStrategy strategy;
+        private final int capacity;
+
+        /**
+         * Values, or their {@link Timed} wrappers when metrics are enabled.
+         */
+        private final AtomicReferenceArray<Object> buffer;
+
+        /**
+         * A slot is free for the value at index {@code i} when it holds {@code i}, and holds that
+         * value when it holds {@code i + 1}.
+         */
+        private final AtomicLongArray sequences;
+
+        /**
+         * Only accessed by the producer.
+         */
+        private long producerIndex;
+        private volatile long consumerIndex;
+
+        BoundedLeftObserver(EitherCoordinator<L, R> parent, int capacity, Action onOverflow,
+                BackpressureOverflowStrategy strategy) {
+            super(parent);
+            this.capacity = capacity;
+            this.buffer = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.lazySet(i, i);
+            }
+            this.onOverflow = onOverflow;
+            this.strategy = strategy;
+        }
+
+        @Override
+        Either<L, R> wrap(L value) {
+            return parent.factory.left(value);
+        }
+
+        @Override
+        void offer(Either<L, R> value) {
+            EitherMetrics m = parent.metrics;
+            Object o = m != null ? timed(value) : value;
+            long p = producerIndex;
+            int offset = (int) (p % capacity);
+            for (;;) {
+                if (sequences.get(offset) == p) {
+                    buffer.lazySet(offset, o);
+                    sequences.lazySet(offset, p + 1);
+                    producerIndex = p + 1;
+                    return;
+                }
+                if (consumerIndex != p - capacity) {
+                    // the drain loop has taken the value but not yet released its slot
+                    continue;
+                }
+                if (strategy != BackpressureOverflowStrategy.DROP_OLDEST) {
+                    overflow(m);
+                    return;
+                }
+                if (evict(p - capacity)) {
+                    overflow(m);
+                }
+            }
+        }
+
+        /**
+         * Drops the value at the given index unless the drain loop has just taken it, in which case
+         * its slot is about to be freed anyway.
+         */
+        private boolean evict(long c) {
+            if (!CONSUMER_INDEX.compareAndSet(this, c, c + 1)) {
+                return false;
+            }
+            int offset = (int) (c % capacity);
+            buffer.lazySet(offset, null);
+            sequences.lazySet(offset, c + capacity);
+            return true;
+        }
+
+        private void overflow(EitherMetrics m) {
+            if (m != null) {
+                m.onOverflow();
+            }
+            if (onOverflow != null) {
+                try {
+                    onOverflow.run();
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    parent.innerError(ex);
+                    return;
+                }
+            }
+            if (strategy == BackpressureOverflowStrategy.ERROR) {
+                parent.innerError(new MissingBackpressureException("Left buffer is full."));
+            }
+        }
+
+        @Override
+        Object poll() {
+            for (;;) {
+                long c = consumerIndex;
+                int offset = (int) (c % capacity);
+                long s = sequences.get(offset);
+                if (s < c + 1) {
+                    return null;
+                }
+                if (s == c + 1 && CONSUMER_INDEX.compareAndSet(this, c, c + 1)) {
+                    Object o = buffer.get(offset);
+                    buffer.lazySet(offset, null);
+                    sequences.lazySet(offset, c + capacity);
+                    return o;
+                }
+            }
+        }
+
+        @Override
+        void clear() {
+            while (poll() != null) {
+                // discard
+            }
+        }
+    }
+
+    static final class RightObserver<L, R> extends EitherObserver<L, R, R> {
+
+        private static final long serialVersionUID = -6011637389592359839L;
+
+        RightObserver(EitherCoordinator<L, R> parent) {
+            super(parent);
+        }
+
+        @Override
+        Either<L, R> wrap(R value) {
+            return parent.factory.right(value);
+        }
+    }
+}
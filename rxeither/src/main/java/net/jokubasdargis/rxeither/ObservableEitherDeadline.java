@@ -0,0 +1,191 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Applies a deadline to the first right value of an {@link Either} stream, tracked by a
+ * {@link HashedTimerWheel} with the observer itself as the wheel node, so that neither the
+ * subscription nor any value allocates a timer task.
+ *
+ * <p>Once a right value has arrived in time, the deadline is cancelled and every further signal
+ * is passed through without any extra synchronization. Until then, left values race with the
+ * deadline through a small emitter counter: whichever gets there first emits, and a deadline
+ * expiring while a left value is being emitted is handled by the emitting thread right after.
+ * Once the deadline has won, the upstream is disposed and the {@link TimeoutPolicy} outcome is
+ * emitted by a task on the given {@link Scheduler}, so that the wheel thread only flips the state
+ * and a slow downstream never delays the deadlines of other subscriptions. The deadline only ever
+ * emits after winning the state, so the upstream thread winning it instead can emit right away.
+ */
+final class ObservableEitherDeadline<L, R> extends Observable<Either<L, R>> {
+
+    private final ObservableSource<Either<L, R>> source;
+    private final long timeoutNanos;
+    private final TimeoutPolicy<L> policy;
+    private final HashedTimerWheel wheel;
+    private final Scheduler scheduler;
+
+    ObservableEitherDeadline(ObservableSource<Either<L, R>> source, long timeoutNanos,
+            TimeoutPolicy<L> policy, HashedTimerWheel wheel, Scheduler scheduler) {
+        this.source = source;
+        this.timeoutNanos = timeoutNanos;
+        this.policy = policy;
+        this.wheel = wheel;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Either<L, R>> observer) {
+        source.subscribe(
+                new DeadlineObserver<L, R>(observer, timeoutNanos, policy, wheel, scheduler));
+    }
+
+    static final class DeadlineObserver<L, R> extends HashedTimerWheel.Timeout
+            implements Observer<Either<L, R>>, Disposable, Runnable {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<DeadlineObserver> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(DeadlineObserver.class, "state");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<DeadlineObserver> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(DeadlineObserver.class, "wip");
+
+        private static final int WAITING = 0;
+        private static final int ARRIVED = 1;
+        private static final int TIMED_OUT = 2;
+
+        private final Observer<? super Either<L, R>> downstream;
+        private final long timeoutNanos;
+        private final TimeoutPolicy<L> policy;
+        private final HashedTimerWheel wheel;
+        private final Scheduler scheduler;
+
+        private Disposable upstream;
+        private volatile int state;
+        private volatile int wip;
+        private volatile boolean disposed;
+
+        DeadlineObserver(Observer<? super Either<L, R>> downstream, long timeoutNanos,
+                TimeoutPolicy<L> policy, HashedTimerWheel wheel, Scheduler scheduler) {
+            this.downstream = downstream;
+            this.timeoutNanos = timeoutNanos;
+            this.policy = policy;
+            this.wheel = wheel;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(upstream, d)) {
+                upstream = d;
+                downstream.onSubscribe(this);
+                if (disposed) {
+                    return;
+                }
+                wheel.schedule(this, timeoutNanos);
+                if (disposed) {
+                    // disposed concurrently, possibly before the timeout was linked
+                    wheel.cancel(this);
+                }
+            }
+        }
+
+        @Override
+        public void onNext(Either<L, R> either) {
+            int s = state;
+            if (s == ARRIVED) {
+                downstream.onNext(either);
+                return;
+            }
+            if (s == TIMED_OUT) {
+                return;
+            }
+            if (either.isRight()) {
+                if (STATE.compareAndSet(this, WAITING, ARRIVED)) {
+                    wheel.cancel(this);
+                    downstream.onNext(either);
+                }
+                return;
+            }
+            if (WIP.getAndIncrement(this) == 0) {
+                if (state != TIMED_OUT) {
+                    downstream.onNext(either);
+                }
+                if (WIP.decrementAndGet(this) != 0) {
+                    emitTimeout();
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (state == ARRIVED || STATE.compareAndSet(this, WAITING, ARRIVED)) {
+                wheel.cancel(this);
+                downstream.onError(e);
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (state == ARRIVED || STATE.compareAndSet(this, WAITING, ARRIVED)) {
+                wheel.cancel(this);
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        void expire() {
+            if (STATE.compareAndSet(this, WAITING, TIMED_OUT)) {
+                scheduler.scheduleDirect(this);
+            }
+        }
+
+        /**
+         * Handles a deadline which has won the state, away from the wheel thread.
+         */
+        @Override
+        public void run() {
+            upstream.dispose();
+            if (WIP.getAndIncrement(this) == 0) {
+                emitTimeout();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            STATE.compareAndSet(this, WAITING, ARRIVED);
+            wheel.cancel(this);
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+
+        private void emitTimeout() {
+            if (disposed) {
+                return;
+            }
+            L marker = policy.marker();
+            if (marker == null) {
+                downstream.onError(new TimeoutException("No right value arrived in time."));
+            } else {
+                downstream.onNext(Either.<L, R>left(marker));
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.internal.util.ExceptionHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Timed;
+
+/**
+ * Merges any number of sources into a single serialized stream, tagging each value with the
+ * index of its source through a {@link Tagger}.
+ *
+ * <p>Follows the same protocol as {@link ObservableEither}: the source which gets to the
+ * coordinator first emits directly while the others queue their values into lazily allocated
+ * single-producer queues, which are then drained round-robin.
+ *
+ * <p>The {@link EitherMetrics} installed at subscription time, if any, is notified of every
+ * emission with the index of its source, of queue high-water marks and of terminal events, with
+ * queued values stored along with their arrival time as {@link ObservableEither} does.
+ */
+final class ObservableEitherN<T> extends Observable<T> {
+
+    private final ObservableSource<?>[] sources;
+    private final Tagger<T> tagger;
+
+    ObservableEitherN(ObservableSource<?>[] sources, Tagger<T> tagger) {
+        this.sources = sources;
+        this.tagger = tagger;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> observer) {
+        EitherCoordinator<T> parent = new EitherCoordinator<>(
+                observer, tagger, sources.length, RxEither.getMetricsListener());
+        observer.onSubscribe(parent);
+        parent.subscribe(sources);
+    }
+
+    /**
+     * Wraps a value of the source at {@code index} into the merged type.
+     */
+    abstract static class Tagger<T> {
+
+        abstract T tag(int index, Object value);
+    }
+
+    static final class EitherCoordinator<T> implements Disposable {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<EitherCoordinator> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(EitherCoordinator.class, "wip");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<EitherCoordinator, Throwable> TERMINAL =
+                AtomicReferenceFieldUpdater.newUpdater(
+                        EitherCoordinator.class, Throwable.class, "terminal");
+
+        private final Observer<? super T> downstream;
+        private final Tagger<T> tagger;
+        private final InnerObserver<T>[] observers;
+        private final EitherMetrics metrics;
+
+        private volatile int wip;
+        private volatile Throwable terminal;
+        private volatile boolean cancelled;
+
+        @SuppressWarnings("unchecked")
+        EitherCoordinator(Observer<? super T> downstream, Tagger<T> tagger, int n,
+                EitherMetrics metrics) {
+            this.downstream = downstream;
+            this.tagger = tagger;
+            this.metrics = metrics;
+            this.observers = (InnerObserver<T>[]) new InnerObserver<?>[n];
+            for (int i = 0; i < n; i++) {
+                observers[i] = new InnerObserver<>(this, i);
+            }
+        }
+
+        void subscribe(ObservableSource<?>[] sources) {
+            InnerObserver<T>[] os = observers;
+            for (int i = 0; i < os.length && !cancelled; i++) {
+                sources[i].subscribe(os[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                disposeSources();
+                if (WIP.getAndIncrement(this) == 0) {
+                    clearQueues();
+                }
+                if (metrics != null) {
+                    metrics.onDispose();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+
+        boolean isDone() {
+            return terminal != null || cancelled;
+        }
+
+        void innerNext(InnerObserver<T> inner, Object value) {
+            T v = tagger.tag(inner.index, value);
+            if (wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+                if (!cancelled) {
+                    downstream.onNext(v);
+                    if (metrics != null) {
+                        metrics.onValue(inner.index, 0L);
+                    }
+                }
+                if (WIP.decrementAndGet(this) == 0) {
+                    return;
+                }
+            } else {
+                inner.offer(v);
+                if (WIP.getAndIncrement(this) != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        void innerError(Throwable e) {
+            if (TERMINAL.compareAndSet(this, null, e)) {
+                drain();
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        void innerComplete() {
+            if (TERMINAL.compareAndSet(this, null, ExceptionHelper.TERMINATED)) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            if (WIP.getAndIncrement(this) == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            Observer<? super T> a = downstream;
+            InnerObserver<T>[] os = observers;
+
+            for (;;) {
+                for (;;) {
+                    if (cancelled) {
+                        clearQueues();
+                        return;
+                    }
+
+                    Throwable t = terminal;
+                    if (t != null && t != ExceptionHelper.TERMINATED) {
+                        cancelled = true;
+                        disposeSources();
+                        clearQueues();
+                        a.onError(t);
+                        if (metrics != null) {
+                            metrics.onError(t);
+                        }
+                        return;
+                    }
+
+                    boolean empty = true;
+
+                    for (InnerObserver<T> inner : os) {
+                        Object v = inner.poll();
+                        if (v != null) {
+                            empty = false;
+                            emit(a, inner.index, v);
+                        }
+                    }
+
+                    if (empty) {
+                        if (t != null) {
+                            cancelled = true;
+                            disposeSources();
+                            a.onComplete();
+                            if (metrics != null) {
+                                metrics.onComplete();
+                            }
+                            return;
+                        }
+                        break;
+                    }
+                }
+
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Hands a value taken from the queue of the source at {@code index} downstream,
+         * unwrapping the arrival time stored along with it when metrics are enabled.
+         */
+        @SuppressWarnings("unchecked")
+        private void emit(Observer<? super T> a, int index, Object o) {
+            EitherMetrics m = metrics;
+            if (m == null) {
+                a.onNext((T) o);
+                return;
+            }
+            Timed<T> timed = (Timed<T>) o;
+            long wait = System.nanoTime() - timed.time();
+            a.onNext(timed.value());
+            m.onValue(index, wait);
+        }
+
+        private void disposeSources() {
+            for (InnerObserver<T> inner : observers) {
+                DisposableHelper.dispose(inner);
+            }
+        }
+
+        private void clearQueues() {
+            for (InnerObserver<T> inner : observers) {
+                inner.clear();
+            }
+        }
+    }
+
+    static final class InnerObserver<T> extends AtomicReference<Disposable>
+            implements Observer<Object> {
+
+        private static final long serialVersionUID = 2857403547302743525L;
+
+        private final EitherCoordinator<T> parent;
+        final int index;
+
+        /**
+         * Written only by this source's producer, read by whoever drains.
+         */
+        private volatile SpscLinkedArrayQueue<Object> queue;
+
+        /**
+         * Largest queue size seen so far, only maintained when metrics are enabled.
+         */
+        private int highWaterMark;
+
+        InnerObserver(EitherCoordinator<T> parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        /**
+         * Buffers a value which lost the race to the emitter, called by this source's producer
+         * only.
+         */
+        void offer(T value) {
+            SpscLinkedArrayQueue<Object> q = queue;
+            if (q == null) {
+                q = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+                queue = q;
+            }
+            EitherMetrics m = parent.metrics;
+            if (m == null) {
+                q.offer(value);
+                return;
+            }
+            q.offer(ObservableEither.timed(value));
+            int size = q.size();
+            if (size > highWaterMark) {
+                highWaterMark = size;
+                m.onQueueHighWaterMark(index, size);
+            }
+        }
+
+        /**
+         * @return the value buffered by {@link #offer(Object)}, wrapped in a {@link Timed} when
+         * metrics are enabled.
+         */
+        Object poll() {
+            SpscLinkedArrayQueue<Object> q = queue;
+            return q != null ? q.poll() : null;
+        }
+
+        void clear() {
+            SpscLinkedArrayQueue<Object> q = queue;
+            if (q != null) {
+                q.clear();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(Object value) {
+            if (!parent.isDone()) {
+                parent.innerNext(this, value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.innerComplete();
+        }
+    }
+}
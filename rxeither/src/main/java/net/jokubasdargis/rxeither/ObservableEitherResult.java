@@ -0,0 +1,218 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import io.reactivex.MaybeObserver;
+import io.reactivex.MaybeSource;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.SingleObserver;
+import io.reactivex.SingleSource;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.util.NotificationLite;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Merges a stream of left progress values with a one-shot right result, emitting the result and
+ * completing in the same step as soon as it arrives and disposing the progress side right away.
+ *
+ * <p>Progress values are the only values which can be emitted concurrently with the result, so
+ * instead of the queues of {@link ObservableEither} the two only race through an emitter counter:
+ * a progress value which loses the race to the result is dropped, while a result arriving while a
+ * progress value is being emitted is emitted by the progress thread right after. Completion of
+ * the progress side is ignored, an error of either side terminates the stream, and an empty
+ * {@link MaybeSource} result completes it.
+ */
+final class ObservableEitherResult<L, R> extends Observable<Either<L, R>> {
+
+    private final ObservableSource<L> progress;
+    private final SingleSource<R> single;
+    private final MaybeSource<R> maybe;
+
+    ObservableEitherResult(ObservableSource<L> progress, SingleSource<R> single) {
+        this.progress = progress;
+        this.single = single;
+        this.maybe = null;
+    }
+
+    ObservableEitherResult(ObservableSource<L> progress, MaybeSource<R> maybe) {
+        this.progress = progress;
+        this.single = null;
+        this.maybe = maybe;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Either<L, R>> observer) {
+        ResultCoordinator<L, R> parent = new ResultCoordinator<>(observer);
+        observer.onSubscribe(parent);
+        progress.subscribe(parent.progress);
+        if (parent.isDisposed()) {
+            return;
+        }
+        if (single != null) {
+            single.subscribe(parent.result);
+        } else {
+            maybe.subscribe(parent.result);
+        }
+    }
+
+    static final class ResultCoordinator<L, R> implements Disposable {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<ResultCoordinator> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(ResultCoordinator.class, "wip");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ResultCoordinator, Object> TERMINAL =
+                AtomicReferenceFieldUpdater.newUpdater(
+                        ResultCoordinator.class, Object.class, "terminal");
+
+        /**
+         * Marks an empty result in {@link #terminal}.
+         */
+        private static final Object EMPTY = new Object();
+
+        private final Observer<? super Either<L, R>> downstream;
+        final ProgressObserver<L> progress;
+        final ResultObserver<R> result;
+
+        /**
+         * The result value, an error wrapped by {@link NotificationLite} or {@link #EMPTY},
+         * whichever terminal event came first.
+         */
+        private volatile Object terminal;
+        private volatile int wip;
+        private volatile boolean disposed;
+
+        ResultCoordinator(Observer<? super Either<L, R>> downstream) {
+            this.downstream = downstream;
+            this.progress = new ProgressObserver<>(this);
+            this.result = new ResultObserver<>(this);
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                DisposableHelper.dispose(progress);
+                DisposableHelper.dispose(result);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        void next(L value) {
+            if (terminal == null && wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+                if (!disposed) {
+                    downstream.onNext(Either.<L, R>left(value));
+                }
+                if (WIP.decrementAndGet(this) != 0) {
+                    terminate();
+                }
+            }
+        }
+
+        void terminal(Object value) {
+            if (TERMINAL.compareAndSet(this, null, value)) {
+                DisposableHelper.dispose(progress);
+                DisposableHelper.dispose(result);
+                if (WIP.getAndIncrement(this) == 0) {
+                    terminate();
+                }
+            } else if (NotificationLite.isError(value)) {
+                RxJavaPlugins.onError(NotificationLite.getError(value));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void terminate() {
+            if (disposed) {
+                return;
+            }
+            disposed = true;
+            Object t = terminal;
+            if (NotificationLite.isError(t)) {
+                downstream.onError(NotificationLite.getError(t));
+                return;
+            }
+            if (t != EMPTY) {
+                downstream.onNext(Either.<L, R>right((R) t));
+            }
+            downstream.onComplete();
+        }
+    }
+
+    static final class ProgressObserver<L> extends AtomicReference<Disposable>
+            implements Observer<L> {
+
+        private static final long serialVersionUID = -3093226624934811427L;
+
+        private final ResultCoordinator<L, ?> parent;
+
+        ProgressObserver(ResultCoordinator<L, ?> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(L value) {
+            parent.next(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.terminal(NotificationLite.error(e));
+        }
+
+        @Override
+        public void onComplete() {
+            // progress ending early is fine, the result is still to come
+        }
+    }
+
+    /**
+     * Accepts either kind of one-shot result, their callbacks share the same signatures.
+     */
+    static final class ResultObserver<R> extends AtomicReference<Disposable>
+            implements SingleObserver<R>, MaybeObserver<R> {
+
+        private static final long serialVersionUID = 4826871284361066658L;
+
+        private final ResultCoordinator<?, R> parent;
+
+        ResultObserver(ResultCoordinator<?, R> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onSuccess(R value) {
+            parent.terminal(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.terminal(NotificationLite.error(e));
+        }
+
+        @Override
+        public void onComplete() {
+            parent.terminal(ResultCoordinator.EMPTY);
+        }
+    }
+}
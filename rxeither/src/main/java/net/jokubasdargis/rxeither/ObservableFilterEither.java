@@ -0,0 +1,129 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.internal.fuseable.QueueDisposable;
+import io.reactivex.internal.observers.BasicFuseableObserver;
+
+/**
+ * Keeps one side of an {@link Either} stream and unwraps it in the same stage, optionally
+ * handing the other side to a {@link Consumer} instead of dropping it.
+ *
+ * <p>Fusion requests, including thread boundary ones from {@code observeOn}, are passed through to
+ * the upstream and the operator simply skips the other side while being polled. Only a consumer
+ * of the other side is user code of this stage, so thread boundary fusion is refused when one is
+ * given to keep it on the upstream's thread. A {@link LazyEither} is only recognised per value,
+ * after fusion has been settled, so its {@code Callable} runs wherever the fused upstream is
+ * drained, which is where a synchronous source is iterated as well.
+ */
+final class ObservableFilterEither<L, R, T> extends Observable<T> {
+
+    private final ObservableSource<? extends Either<L, R>> source;
+    private final boolean left;
+    private final Consumer<? super Either<L, R>> other;
+
+    static <L, R> Observable<L> left(ObservableSource<? extends Either<L, R>> source) {
+        return new ObservableFilterEither<L, R, L>(source, true, null);
+    }
+
+    static <L, R> Observable<R> right(ObservableSource<? extends Either<L, R>> source) {
+        return new ObservableFilterEither<L, R, R>(source, false, null);
+    }
+
+    static <L, R> Observable<R> right(ObservableSource<? extends Either<L, R>> source,
+            Consumer<? super Either<L, R>> left) {
+        return new ObservableFilterEither<L, R, R>(source, false, left);
+    }
+
+    private ObservableFilterEither(ObservableSource<? extends Either<L, R>> source, boolean left,
+            Consumer<? super Either<L, R>> other) {
+        this.source = source;
+        this.left = left;
+        this.other = other;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> observer) {
+        source.subscribe(new FilterEitherObserver<L, R, T>(observer, left, other));
+    }
+
+    static final class FilterEitherObserver<L, R, T>
+            extends BasicFuseableObserver<Either<L, R>, T> {
+
+        private final boolean left;
+        private final Consumer<? super Either<L, R>> other;
+
+        FilterEitherObserver(Observer<? super T> actual, boolean left,
+                Consumer<? super Either<L, R>> other) {
+            super(actual);
+            this.left = left;
+            this.other = other;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(Either<L, R> either) {
+            if (done) {
+                return;
+            }
+            if (sourceMode != NONE) {
+                actual.onNext(null);
+                return;
+            }
+            if (either.isLeft() == left) {
+                T v;
+                try {
+                    v = (T) either.value();
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    fail(ex);
+                    return;
+                }
+                actual.onNext(v);
+            } else if (other != null) {
+                try {
+                    other.accept(either);
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    fail(ex);
+                }
+            }
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if (other != null) {
+                return transitiveBoundaryFusion(mode);
+            }
+            QueueDisposable<Either<L, R>> qs = this.qs;
+            if (qs != null) {
+                int m = qs.requestFusion(mode);
+                if (m != NONE) {
+                    sourceMode = m;
+                }
+                return m;
+            }
+            return NONE;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T poll() throws Exception {
+            for (;;) {
+                Either<L, R> either = qs.poll();
+                if (either == null) {
+                    return null;
+                }
+                if (either.isLeft() == left) {
+                    return (T) either.value();
+                }
+                if (other != null) {
+                    other.accept(either);
+                }
+            }
+        }
+    }
+}
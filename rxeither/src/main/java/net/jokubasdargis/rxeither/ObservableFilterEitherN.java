@@ -0,0 +1,82 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.internal.fuseable.QueueDisposable;
+import io.reactivex.internal.observers.BasicFuseableObserver;
+
+/**
+ * Keeps the values of one index of an {@link EitherN} stream and unwraps them in the same
+ * stage. Unwrapping runs no user code, so fusion requests, including thread boundary ones, are
+ * passed straight through to the upstream.
+ */
+final class ObservableFilterEitherN<T> extends Observable<T> {
+
+    private final ObservableSource<? extends EitherN<?, ?, ?, ?, ?, ?>> source;
+    private final int index;
+
+    ObservableFilterEitherN(ObservableSource<? extends EitherN<?, ?, ?, ?, ?, ?>> source,
+            int index) {
+        this.source = source;
+        this.index = index;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super T> observer) {
+        source.subscribe(new FilterEitherNObserver<T>(observer, index));
+    }
+
+    static final class FilterEitherNObserver<T>
+            extends BasicFuseableObserver<EitherN<?, ?, ?, ?, ?, ?>, T> {
+
+        private final int index;
+
+        FilterEitherNObserver(Observer<? super T> actual, int index) {
+            super(actual);
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(EitherN<?, ?, ?, ?, ?, ?> either) {
+            if (done) {
+                return;
+            }
+            if (sourceMode != NONE) {
+                actual.onNext(null);
+                return;
+            }
+            if (either.index == index) {
+                actual.onNext((T) either.value);
+            }
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            QueueDisposable<EitherN<?, ?, ?, ?, ?, ?>> qs = this.qs;
+            if (qs != null) {
+                int m = qs.requestFusion(mode);
+                if (m != NONE) {
+                    sourceMode = m;
+                }
+                return m;
+            }
+            return NONE;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T poll() throws Exception {
+            for (;;) {
+                EitherN<?, ?, ?, ?, ?, ?> either = qs.poll();
+                if (either == null) {
+                    return null;
+                }
+                if (either.index == index) {
+                    return (T) either.value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.functions.Function;
+
+/**
+ * Flat maps either side of an {@link Either} stream into inner sources, each side with its own
+ * {@code flatMap} and therefore its own concurrency limit and inner queues, passing the incoming
+ * instances of a side without mapper through untouched.
+ *
+ * <p>The upstream is shared between the two sides and the results are merged back with a plain
+ * merge rather than the {@link Either} merge, so that the stream only completes once both sides,
+ * including all of their inner sources, have completed.
+ */
+final class ObservableFlatMapEither<L, R, L1, R1> extends Observable<Either<L1, R1>> {
+
+    private final ObservableSource<? extends Either<L, R>> source;
+    private final Function<? super L, ? extends ObservableSource<? extends L1>> left;
+    private final int leftMaxConcurrency;
+    private final Function<? super R, ? extends ObservableSource<? extends R1>> right;
+    private final int rightMaxConcurrency;
+
+    static <L, R, L1> Observable<Either<L1, R>> flatMapLeftObservable(
+            ObservableSource<? extends Either<L, R>> source,
+            Function<? super L, ? extends ObservableSource<? extends L1>> left, int maxConcurrency) {
+        return new ObservableFlatMapEither<L, R, L1, R>(source, left, maxConcurrency, null, 0);
+    }
+
+    static <L, R, R1> Observable<Either<L, R1>> flatMapRightObservable(
+            ObservableSource<? extends Either<L, R>> source,
+            Function<? super R, ? extends ObservableSource<? extends R1>> right,
+            int maxConcurrency) {
+        return new ObservableFlatMapEither<L, R, L, R1>(source, null, 0, right, maxConcurrency);
+    }
+
+    static <L, R, L1, R1> Observable<Either<L1, R1>> flatMapBoth(
+            ObservableSource<? extends Either<L, R>> source,
+            Function<? super L, ? extends ObservableSource<? extends L1>> left,
+            int leftMaxConcurrency,
+            Function<? super R, ? extends ObservableSource<? extends R1>> right,
+            int rightMaxConcurrency) {
+        return new ObservableFlatMapEither<L, R, L1, R1>(
+                source, left, leftMaxConcurrency, right, rightMaxConcurrency);
+    }
+
+    private ObservableFlatMapEither(ObservableSource<? extends Either<L, R>> source,
+            Function<? super L, ? extends ObservableSource<? extends L1>> left,
+            int leftMaxConcurrency,
+            Function<? super R, ? extends ObservableSource<? extends R1>> right,
+            int rightMaxConcurrency) {
+        this.source = source;
+        this.left = left;
+        this.leftMaxConcurrency = leftMaxConcurrency;
+        this.right = right;
+        this.rightMaxConcurrency = rightMaxConcurrency;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void subscribeActual(Observer<? super Either<L1, R1>> observer) {
+        Observable<Either<L, R>> either = Observable.wrap((ObservableSource<Either<L, R>>) source);
+        either.publish(new Function<Observable<Either<L, R>>, Observable<Either<L1, R1>>>() {
+            @Override
+            public Observable<Either<L1, R1>> apply(Observable<Either<L, R>> shared) {
+                return Observable.merge(left(shared), right(shared));
+            }
+        }).subscribe(observer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Observable<Either<L1, R1>> left(Observable<Either<L, R>> shared) {
+        if (left == null) {
+            Observable<?> lefts = shared.filter(RxEither.<L, R>isLeft());
+            return (Observable<Either<L1, R1>>) lefts;
+        }
+        return ObservableFilterEither.<L, R>left(shared)
+                .flatMap(left, leftMaxConcurrency)
+                .map(new Function<L1, Either<L1, R1>>() {
+                    @Override
+                    public Either<L1, R1> apply(L1 value) {
+                        return Either.left(value);
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Observable<Either<L1, R1>> right(Observable<Either<L, R>> shared) {
+        if (right == null) {
+            Observable<?> rights = shared.filter(RxEither.<L, R>isRight());
+            return (Observable<Either<L1, R1>>) rights;
+        }
+        return ObservableFilterEither.<L, R>right(shared)
+                .flatMap(right, rightMaxConcurrency)
+                .map(new Function<R1, Either<L1, R1>>() {
+                    @Override
+                    public Either<L1, R1> apply(R1 value) {
+                        return Either.right(value);
+                    }
+                });
+    }
+}
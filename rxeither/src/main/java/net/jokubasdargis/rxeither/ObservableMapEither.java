@@ -0,0 +1,148 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.internal.observers.BasicFuseableObserver;
+
+/**
+ * Maps either side of an {@link Either} stream to a new {@link Either}, passing the incoming
+ * instance through untouched when its side has no mapper.
+ *
+ * <p>Takes part in fusion the same way {@code map} does: synchronous and asynchronous fusion
+ * requests are passed through to the upstream unless they cross a thread boundary.
+ */
+final class ObservableMapEither<L, R, L1, R1> extends Observable<Either<L1, R1>> {
+
+    private final ObservableSource<? extends Either<L, R>> source;
+    private final Function<L, Either<L1, R1>> left;
+    private final Function<R, Either<L1, R1>> right;
+
+    static <L, R, L1> Observable<Either<L1, R>> mapLeft(
+            ObservableSource<? extends Either<L, R>> source, Function<L, L1> left) {
+        return new ObservableMapEither<L, R, L1, R>(source, new ToLeft<L, L1, R>(left), null);
+    }
+
+    static <L, R, R1> Observable<Either<L, R1>> mapRight(
+            ObservableSource<? extends Either<L, R>> source, Function<R, R1> right) {
+        return new ObservableMapEither<L, R, L, R1>(source, null, new ToRight<R, L, R1>(right));
+    }
+
+    static <L, R, L1, R1> Observable<Either<L1, R1>> bimap(
+            ObservableSource<? extends Either<L, R>> source,
+            Function<L, L1> left, Function<R, R1> right) {
+        return new ObservableMapEither<L, R, L1, R1>(
+                source, new ToLeft<L, L1, R1>(left), new ToRight<R, L1, R1>(right));
+    }
+
+    static <L, R, R1> Observable<Either<L, R1>> flatMapRight(
+            ObservableSource<? extends Either<L, R>> source, Function<R, Either<L, R1>> right) {
+        return new ObservableMapEither<L, R, L, R1>(source, null, right);
+    }
+
+    private ObservableMapEither(ObservableSource<? extends Either<L, R>> source,
+            Function<L, Either<L1, R1>> left, Function<R, Either<L1, R1>> right) {
+        this.source = source;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super Either<L1, R1>> observer) {
+        source.subscribe(new MapEitherObserver<L, R, L1, R1>(observer, left, right));
+    }
+
+    static final class MapEitherObserver<L, R, L1, R1>
+            extends BasicFuseableObserver<Either<L, R>, Either<L1, R1>> {
+
+        private final Function<L, Either<L1, R1>> left;
+        private final Function<R, Either<L1, R1>> right;
+
+        MapEitherObserver(Observer<? super Either<L1, R1>> actual,
+                Function<L, Either<L1, R1>> left, Function<R, Either<L1, R1>> right) {
+            super(actual);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void onNext(Either<L, R> either) {
+            if (done) {
+                return;
+            }
+            if (sourceMode != NONE) {
+                actual.onNext(null);
+                return;
+            }
+            Either<L1, R1> v;
+            try {
+                v = map(either);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                fail(ex);
+                return;
+            }
+            actual.onNext(v);
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            return transitiveBoundaryFusion(mode);
+        }
+
+        @Override
+        public Either<L1, R1> poll() throws Exception {
+            Either<L, R> either = qs.poll();
+            return either != null ? map(either) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Either<L1, R1> map(Either<L, R> either) throws Exception {
+            if (either.isLeft()) {
+                if (left == null) {
+                    return (Either<L1, R1>) (Either<?, ?>) either;
+                }
+                return ObjectHelper.requireNonNull(left.apply((L) either.value()),
+                        "The left mapper returned a null Either.");
+            }
+            if (right == null) {
+                return (Either<L1, R1>) (Either<?, ?>) either;
+            }
+            return ObjectHelper.requireNonNull(right.apply((R) either.value()),
+                    "The right mapper returned a null Either.");
+        }
+    }
+
+    private static final class ToLeft<T, L1, R1> implements Function<T, Either<L1, R1>> {
+
+        private final Function<T, L1> mapper;
+
+        ToLeft(Function<T, L1> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Either<L1, R1> apply(T value) throws Exception {
+            return Either.left(ObjectHelper.requireNonNull(mapper.apply(value),
+                    "The left mapper returned a null value."));
+        }
+    }
+
+    private static final class ToRight<T, L1, R1> implements Function<T, Either<L1, R1>> {
+
+        private final Function<T, R1> mapper;
+
+        ToRight(Function<T, R1> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Either<L1, R1> apply(T value) throws Exception {
+            return Either.right(ObjectHelper.requireNonNull(mapper.apply(value),
+                    "The right mapper returned a null value."));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.disposables.EmptyDisposable;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Routes a single upstream subscription of {@link Either}s into a left and a right stream.
+ *
+ * <p>Each side accepts a single observer. The upstream is subscribed to once both sides have
+ * an observer or {@link #connect()} is called, whichever happens first, and disposed once both
+ * sides have disposed or the connection itself is disposed. Values routed to a side without
+ * an observer are dropped without being unwrapped, so that a {@link LazyEither} of an unobserved
+ * side is never computed.
+ */
+final class ObservablePartition<L, R> extends AtomicReference<Disposable>
+        implements Observer<Either<L, R>>, Disposable {
+
+    private static final long serialVersionUID = 6571498627329380742L;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ObservablePartition> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(ObservablePartition.class, "state");
+
+    private static final int LEFT_SUBSCRIBED = 1;
+    private static final int RIGHT_SUBSCRIBED = 1 << 1;
+    private static final int LEFT_DISPOSED = 1 << 2;
+    private static final int RIGHT_DISPOSED = 1 << 3;
+    private static final int CONNECTED = 1 << 4;
+
+    private final ObservableSource<Either<L, R>> source;
+    final PartitionSide<L> left;
+    final PartitionSide<R> right;
+
+    private volatile int state;
+    private boolean done;
+
+    ObservablePartition(ObservableSource<Either<L, R>> source) {
+        this.source = source;
+        this.left = new PartitionSide<>(this, LEFT_SUBSCRIBED, LEFT_DISPOSED);
+        this.right = new PartitionSide<>(this, RIGHT_SUBSCRIBED, RIGHT_DISPOSED);
+    }
+
+    Disposable connect() {
+        if ((addState(CONNECTED) & CONNECTED) == 0) {
+            source.subscribe(this);
+        }
+        return this;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(this, d);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onNext(Either<L, R> either) {
+        if (done) {
+            return;
+        }
+        PartitionSide<?> side = either.isLeft() ? left : right;
+        if (!side.hasObserver()) {
+            return;
+        }
+        Object v;
+        try {
+            v = either.value();
+        } catch (Throwable ex) {
+            Exceptions.throwIfFatal(ex);
+            dispose();
+            onError(ex);
+            return;
+        }
+        if (either.isLeft()) {
+            left.next((L) v);
+        } else {
+            right.next((R) v);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            RxJavaPlugins.onError(e);
+            return;
+        }
+        done = true;
+        left.terminate(e);
+        right.terminate(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        left.terminate(null);
+        right.terminate(null);
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(get());
+    }
+
+    void sideSubscribed(int flag) {
+        int s = addState(flag) | flag;
+        if ((s & CONNECTED) == 0 && (s & (LEFT_SUBSCRIBED | RIGHT_SUBSCRIBED))
+                == (LEFT_SUBSCRIBED | RIGHT_SUBSCRIBED)) {
+            connect();
+        }
+    }
+
+    void sideDisposed(int flag) {
+        int s = addState(flag) | flag;
+        if ((s & (LEFT_DISPOSED | RIGHT_DISPOSED)) == (LEFT_DISPOSED | RIGHT_DISPOSED)) {
+            dispose();
+        }
+    }
+
+    /**
+     * @return the state before the flag was added.
+     */
+    private int addState(int flag) {
+        for (;;) {
+            int s = state;
+            if ((s & flag) != 0 || STATE.compareAndSet(this, s, s | flag)) {
+                return s;
+            }
+        }
+    }
+
+    static final class PartitionSide<T> extends Observable<T> implements Disposable {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<PartitionSide> ONCE =
+                AtomicIntegerFieldUpdater.newUpdater(PartitionSide.class, "once");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<PartitionSide> TERMINATED =
+                AtomicIntegerFieldUpdater.newUpdater(PartitionSide.class, "terminated");
+
+        private final ObservablePartition<?, ?> parent;
+        private final int subscribedFlag;
+        private final int disposedFlag;
+
+        private volatile int once;
+        private volatile int terminated;
+        private volatile Observer<? super T> downstream;
+        private volatile boolean disposed;
+        private volatile boolean done;
+        private Throwable error;
+
+        PartitionSide(ObservablePartition<?, ?> parent, int subscribedFlag, int disposedFlag) {
+            this.parent = parent;
+            this.subscribedFlag = subscribedFlag;
+            this.disposedFlag = disposedFlag;
+        }
+
+        @Override
+        protected void subscribeActual(Observer<? super T> observer) {
+            if (once == 0 && ONCE.compareAndSet(this, 0, 1)) {
+                observer.onSubscribe(this);
+                if (disposed) {
+                    return;
+                }
+                downstream = observer;
+                if (disposed) {
+                    // disposed concurrently, which may have cleared the field before it was set
+                    downstream = null;
+                    return;
+                }
+                if (done) {
+                    tryTerminate();
+                } else {
+                    parent.sideSubscribed(subscribedFlag);
+                }
+            } else {
+                EmptyDisposable.error(
+                        new IllegalStateException("Only a single observer allowed."), observer);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                downstream = null;
+                parent.sideDisposed(disposedFlag);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        boolean hasObserver() {
+            return downstream != null;
+        }
+
+        void next(T value) {
+            Observer<? super T> a = downstream;
+            if (a != null) {
+                a.onNext(value);
+            }
+        }
+
+        void terminate(Throwable e) {
+            error = e;
+            done = true;
+            tryTerminate();
+        }
+
+        private void tryTerminate() {
+            Observer<? super T> a = downstream;
+            if (a != null && TERMINATED.compareAndSet(this, 0, 1)) {
+                downstream = null;
+                Throwable e = error;
+                if (e != null) {
+                    a.onError(e);
+                } else {
+                    a.onComplete();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package net.jokubasdargis.rxeither;
+
+import net.jokubasdargis.rxeither.functions.ToLongFunction;
+
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Counts, and optionally sums, both sides of an {@link Either} stream in plain {@code long}
+ * fields with a single upstream subscription.
+ *
+ * <p>Without summarizers the values are never accessed, so lazily computed values stay
+ * uncomputed.
+ */
+final class ObservableSummarizeEither<L, R> extends Single<EitherSummary> {
+
+    private final ObservableSource<? extends Either<L, R>> source;
+    private final ToLongFunction<? super L> left;
+    private final ToLongFunction<? super R> right;
+
+    ObservableSummarizeEither(ObservableSource<? extends Either<L, R>> source,
+            ToLongFunction<? super L> left, ToLongFunction<? super R> right) {
+        this.source = source;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    protected void subscribeActual(SingleObserver<? super EitherSummary> observer) {
+        source.subscribe(new SummarizeObserver<L, R>(observer, left, right));
+    }
+
+    static final class SummarizeObserver<L, R> implements Observer<Either<L, R>>, Disposable {
+
+        private final SingleObserver<? super EitherSummary> actual;
+        private final ToLongFunction<? super L> left;
+        private final ToLongFunction<? super R> right;
+
+        private Disposable s;
+        private boolean done;
+        private long leftCount;
+        private long rightCount;
+        private long leftSum;
+        private long rightSum;
+
+        SummarizeObserver(SingleObserver<? super EitherSummary> actual,
+                ToLongFunction<? super L> left, ToLongFunction<? super R> right) {
+            this.actual = actual;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void onSubscribe(Disposable s) {
+            if (DisposableHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(Either<L, R> either) {
+            if (done) {
+                return;
+            }
+            try {
+                if (either.isLeft()) {
+                    leftCount++;
+                    if (left != null) {
+                        leftSum += left.apply((L) either.value());
+                    }
+                } else {
+                    rightCount++;
+                    if (right != null) {
+                        rightSum += right.apply((R) either.value());
+                    }
+                }
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                s.dispose();
+                onError(ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onSuccess(new EitherSummary(leftCount, rightCount, leftSum, rightSum));
+        }
+
+        @Override
+        public void dispose() {
+            s.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return s.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.jokubasdargis.rxeither;
+
+import org.reactivestreams.Subscriber;
+
+import io.reactivex.Flowable;
+import io.reactivex.parallel.ParallelFlowable;
+
+/**
+ * Spreads the left and the right values of a single {@link Either} flowable over separate sets
+ * of rails: the first {@code leftParallelism} rails only ever see lefts, the remaining ones only
+ * rights.
+ *
+ * <p>Each set is a plain {@link ParallelFlowable#from} over its side of the source, which is
+ * published and connected once both sets have subscribed, so every subscription to the rails
+ * subscribes to the upstream exactly once. The publish buffer is shared by both sets, so the
+ * upstream is requested at the pace of the slower side.
+ */
+final class ParallelEitherRails<L, R> extends ParallelFlowable<Either<L, R>> {
+
+    private final Flowable<Either<L, R>> source;
+    private final int leftParallelism;
+    private final int rightParallelism;
+
+    ParallelEitherRails(Flowable<Either<L, R>> source, int leftParallelism,
+            int rightParallelism) {
+        this.source = source;
+        this.leftParallelism = leftParallelism;
+        this.rightParallelism = rightParallelism;
+    }
+
+    @Override
+    public int parallelism() {
+        return leftParallelism + rightParallelism;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Either<L, R>>[] subscribers) {
+        if (!validate(subscribers)) {
+            return;
+        }
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Subscriber<? super Either<L, R>>[] lefts = new Subscriber[leftParallelism];
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Subscriber<? super Either<L, R>>[] rights = new Subscriber[rightParallelism];
+        System.arraycopy(subscribers, 0, lefts, 0, leftParallelism);
+        System.arraycopy(subscribers, leftParallelism, rights, 0, rightParallelism);
+
+        Flowable<Either<L, R>> shared = source.publish().autoConnect(2);
+        ParallelFlowable.from(shared.filter(RxEither.<L, R>isLeft()), leftParallelism)
+                .subscribe(lefts);
+        ParallelFlowable.from(shared.filter(RxEither.<L, R>isRight()), rightParallelism)
+                .subscribe(rights);
+    }
+}
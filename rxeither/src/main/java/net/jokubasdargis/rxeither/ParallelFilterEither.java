@@ -0,0 +1,55 @@
+package net.jokubasdargis.rxeither;
+
+import org.reactivestreams.Subscriber;
+
+import io.reactivex.internal.fuseable.ConditionalSubscriber;
+import io.reactivex.parallel.ParallelFlowable;
+
+/**
+ * Keeps one side of every rail of a {@link ParallelFlowable} of {@link Either}s, using the same
+ * per-rail subscribers as {@link FlowableFilterEither}.
+ */
+final class ParallelFilterEither<L, R, T> extends ParallelFlowable<T> {
+
+    private final ParallelFlowable<? extends Either<L, R>> source;
+    private final boolean left;
+
+    static <L, R> ParallelFlowable<L> left(ParallelFlowable<? extends Either<L, R>> source) {
+        return new ParallelFilterEither<L, R, L>(source, true);
+    }
+
+    static <L, R> ParallelFlowable<R> right(ParallelFlowable<? extends Either<L, R>> source) {
+        return new ParallelFilterEither<L, R, R>(source, false);
+    }
+
+    private ParallelFilterEither(ParallelFlowable<? extends Either<L, R>> source, boolean left) {
+        this.source = source;
+        this.left = left;
+    }
+
+    @Override
+    public int parallelism() {
+        return source.parallelism();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void subscribe(Subscriber<? super T>[] subscribers) {
+        if (!validate(subscribers)) {
+            return;
+        }
+        int n = subscribers.length;
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Subscriber<? super Either<L, R>>[] parents = new Subscriber[n];
+        for (int i = 0; i < n; i++) {
+            Subscriber<? super T> a = subscribers[i];
+            if (a instanceof ConditionalSubscriber) {
+                parents[i] = new FlowableFilterEither.FilterEitherConditionalSubscriber<L, R, T>(
+                        (ConditionalSubscriber<? super T>) a, left);
+            } else {
+                parents[i] = new FlowableFilterEither.FilterEitherSubscriber<L, R, T>(a, left);
+            }
+        }
+        ((ParallelFlowable<Either<L, R>>) source).subscribe(parents);
+    }
+}
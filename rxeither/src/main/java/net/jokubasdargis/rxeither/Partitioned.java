@@ -0,0 +1,60 @@
+package net.jokubasdargis.rxeither;
+
+/**
+ * Left and right containers filled in a single pass by
+ * {@link RxEither#collectPartitioned(io.reactivex.Observable)}.
+ *
+ * @param <CL> The type of left container.
+ * @param <CR> The type of right container.
+ */
+public final class Partitioned<CL, CR> {
+
+    private final CL left;
+    private final CR right;
+
+    Partitioned(CL left, CR right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * @return the container holding the left values.
+     */
+    public CL left() {
+        return left;
+    }
+
+    /**
+     * @return the container holding the right values.
+     */
+    public CR right() {
+        return right;
+    }
+
+    @Override
+    public String toString() {
+        return "Partitioned{" + "left=" + left + ", right=" + right + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof Partitioned) {
+            Partitioned<?, ?> that = (Partitioned<?, ?>) o;
+            return left.equals(that.left) && right.equals(that.right);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h *= 1000003;
+        h ^= left.hashCode();
+        h *= 1000003;
+        h ^= right.hashCode();
+        return h;
+    }
+}
@@ -0,0 +1,113 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.ObservableEmitter;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Cancellable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Common base of {@link IntLeftEither}, {@link LongLeftEither} and {@link DoubleLeftEither}.
+ *
+ * <p>Implements the generic {@link Either} methods of both sides through {@link #value()}, which
+ * only boxes a primitive left value when it is accessed that way, and the parts of the emitters
+ * behind {@link RxEither#createInt} and its siblings which do not depend on the primitive type.
+ * Instances are only equal to instances of the same side of the same specialization.
+ */
+abstract class PrimitiveLeftEither<L, R> extends Either<L, R> {
+
+    PrimitiveLeftEither() { }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<L> left, Consumer<R> right) {
+        try {
+            if (isLeft()) {
+                left.accept((L) value());
+            } else {
+                right.accept((R) value());
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R1> R1 join(Function<L, R1> left, Function<R, R1> right) {
+        try {
+            return isLeft() ? left.apply((L) value()) : right.apply((R) value());
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (isLeft() ? "Left" : "Right") + "{" + "value=" + value() + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o != null && o.getClass() == getClass()) {
+            return value().equals(((PrimitiveLeftEither<?, ?>) o).value());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h *= 1000003;
+        h ^= value().hashCode();
+        return h;
+    }
+
+    /**
+     * Adapts an {@link ObservableEmitter} to the {@code Emitter} of a specialization, which only
+     * adds the unboxed {@code onLeft} of its primitive type.
+     *
+     * @param <T> The type of the specialization.
+     * @param <R> The type of right value.
+     */
+    abstract static class AbstractEmitter<T, R> {
+
+        final ObservableEmitter<T> emitter;
+
+        AbstractEmitter(ObservableEmitter<T> emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return the specialization holding the given value as right.
+         */
+        abstract T right(R value);
+
+        public void onRight(R value) {
+            if (value == null) {
+                onError(new NullPointerException("onRight called with null."));
+                return;
+            }
+            emitter.onNext(right(value));
+        }
+
+        public void onError(Throwable error) {
+            emitter.onError(error);
+        }
+
+        public void onComplete() {
+            emitter.onComplete();
+        }
+
+        public void setCancellable(Cancellable cancellable) {
+            emitter.setCancellable(cancellable);
+        }
+
+        public boolean isDisposed() {
+            return emitter.isDisposed();
+        }
+    }
+}
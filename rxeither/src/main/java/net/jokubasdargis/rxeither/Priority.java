@@ -0,0 +1,18 @@
+package net.jokubasdargis.rxeither;
+
+/**
+ * Order in which values of both sides are emitted when both have values waiting to be
+ * delivered, e.g. after a slow consumer returns.
+ */
+public enum Priority {
+
+    /**
+     * Alternates between left and right values.
+     */
+    FAIR,
+
+    /**
+     * Emits every waiting right value before any waiting left value.
+     */
+    RIGHT
+}
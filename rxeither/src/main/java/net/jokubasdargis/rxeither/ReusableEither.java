@@ -0,0 +1,121 @@
+package net.jokubasdargis.rxeither;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+/**
+ * Mutable {@link Either} refilled by {@link RxEither#fromFlyweight} for every value it emits
+ * without queueing, one instance per subscription.
+ *
+ * <p>An instance is only valid until the next {@code onNext} of the same stream; {@link #copy()}
+ * returns an immutable {@link Left} or {@link Right} to keep instead.
+ */
+final class ReusableEither<L, R> extends Either<L, R> {
+
+    private static final EitherFactory<Object, Object> FACTORY =
+            new EitherFactory<Object, Object>() {
+                @Override
+                Either<Object, Object> left(Object value) {
+                    return Either.left(value);
+                }
+
+                @Override
+                Either<Object, Object> right(Object value) {
+                    return Either.right(value);
+                }
+
+                @Override
+                ReusableEither<Object, Object> newHolder() {
+                    return new ReusableEither<>();
+                }
+            };
+
+    private boolean left;
+    private Object value;
+
+    /**
+     * @return the factory wrapping queued values into plain {@link Left}s and {@link Right}s and
+     * handing out a fresh holder for every subscription.
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R> EitherFactory<L, R> factory() {
+        return (EitherFactory<L, R>) FACTORY;
+    }
+
+    ReusableEither<L, R> set(boolean left, Object value) {
+        this.left = left;
+        this.value = value;
+        return this;
+    }
+
+    @Override
+    public boolean isLeft() {
+        return left;
+    }
+
+    @Override
+    public boolean isRight() {
+        return !left;
+    }
+
+    @Override
+    Object value() {
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Either<L, R> copy() {
+        return left ? Either.<L, R>left((L) value) : Either.<L, R>right((R) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void continued(Consumer<L> left, Consumer<R> right) {
+        try {
+            if (this.left) {
+                left.accept((L) value);
+            } else {
+                right.accept((R) value);
+            }
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R1> R1 join(Function<L, R1> left, Function<R, R1> right) {
+        try {
+            return this.left ? left.apply((L) value) : right.apply((R) value);
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (left ? "Left" : "Right") + "{" + "value=" + value + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof ReusableEither) {
+            ReusableEither<?, ?> that = (ReusableEither<?, ?>) o;
+            return this.left == that.left && this.value.equals(that.value);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        h *= 1000003;
+        h ^= this.value.hashCode();
+        return h;
+    }
+}
@@ -1,5 +1,9 @@
 package net.jokubasdargis.rxeither;
 
+import net.jokubasdargis.rxeither.functions.UncheckedConsumer;
+import net.jokubasdargis.rxeither.functions.UncheckedFunction;
+
+import io.reactivex.exceptions.Exceptions;
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
 
@@ -21,12 +25,17 @@ final class Right<L, R> extends Either<L, R> {
         return true;
     }
 
+    @Override
+    Object value() {
+        return value;
+    }
+
     @Override
     public void continued(Consumer<L> left, Consumer<R> right) {
         try {
             right.accept(value);
         } catch (Exception e) {
-            throw new RuntimeException(e);
+            throw Exceptions.propagate(e);
         }
     }
 
@@ -35,10 +44,20 @@ final class Right<L, R> extends Either<L, R> {
         try {
             return right.apply(value);
         } catch (Exception e) {
-            throw new RuntimeException(e);
+            throw Exceptions.propagate(e);
         }
     }
 
+    @Override
+    public void consume(UncheckedConsumer<L> left, UncheckedConsumer<R> right) {
+        right.accept(value);
+    }
+
+    @Override
+    public <T> T fold(UncheckedFunction<L, T> left, UncheckedFunction<R, T> right) {
+        return right.apply(value);
+    }
+
     public String toString() {
         return "Right{" + "value=" + value + '}';
     }
@@ -1,15 +1,55 @@
 package net.jokubasdargis.rxeither;
 
+import net.jokubasdargis.rxeither.functions.DoubleConsumer;
+import net.jokubasdargis.rxeither.functions.IntConsumer;
+import net.jokubasdargis.rxeither.functions.LongConsumer;
+import net.jokubasdargis.rxeither.functions.ToLongFunction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
 import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.functions.Action;
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
 import io.reactivex.functions.Predicate;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.parallel.ParallelFlowable;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
 
 /**
- * Helper to create and filter {@link Observable}s of {@link Either} type.
+ * Helper to create and filter {@link Observable}s and {@link Flowable}s of {@link Either} type.
  */
 public final class RxEither {
 
+    private static volatile EitherMetrics metrics;
+
+    /**
+     * Installs the {@link EitherMetrics} notified by every {@link Either} merge subscribed to
+     * from now on, or removes it when {@code null}. Without a listener the merges skip all
+     * bookkeeping.
+     */
+    public static void setMetricsListener(EitherMetrics listener) {
+        metrics = listener;
+    }
+
+    /**
+     * @return the installed {@link EitherMetrics}, or {@code null} if there is none.
+     */
+    public static EitherMetrics getMetricsListener() {
+        return metrics;
+    }
+
     /**
      * Creates only left {@link Either} type emitting observable.
      */
@@ -28,7 +68,384 @@ public final class RxEither {
      * Combines two observables into a single {@link Either} observable.
      */
     public static <L, R> Observable<Either<L, R>> from(Observable<L> left, Observable<R> right) {
-        return Observable.create(new EitherOnSubscribe<>(left, right));
+        return RxJavaPlugins.onAssembly(new ObservableEither<>(left, right,
+                EitherFactory.<L, R>instance()));
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable, emitting values which
+     * are waiting to be delivered in the given {@link Priority} order.
+     */
+    public static <L, R> Observable<Either<L, R>> from(Observable<L> left, Observable<R> right,
+            Priority priority) {
+        ObjectHelper.requireNonNull(priority, "priority is null");
+        return RxJavaPlugins.onAssembly(new ObservableEither<>(left, right,
+                EitherFactory.<L, R>instance(), false, priority));
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable, subscribing to both of
+     * them at the same time on separate workers of the given {@link Scheduler}, so that a
+     * blocking or synchronous left source does not hold back the subscription to the right one.
+     * Subscriptions which have not happened yet when the observer disposes never happen.
+     */
+    public static <L, R> Observable<Either<L, R>> from(Observable<L> left, Observable<R> right,
+            Scheduler scheduler) {
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return from(left.subscribeOn(scheduler), right.subscribeOn(scheduler));
+    }
+
+    /**
+     * Combines an observable of progress values with a single result into an {@link Either}
+     * observable, which emits the result as a Right and completes as soon as it arrives,
+     * disposing the progress observable right away. Completion of the progress observable is
+     * ignored.
+     */
+    public static <L, R> Observable<Either<L, R>> fromSingle(Observable<L> progress,
+            Single<R> result) {
+        ObjectHelper.requireNonNull(result, "result is null");
+        return RxJavaPlugins.onAssembly(new ObservableEitherResult<L, R>(progress, result));
+    }
+
+    /**
+     * Combines an observable of progress values with a single result into a {@link Single} of
+     * that result, handing the progress values to the given {@link Consumer} on the way, with a
+     * single subscription to both.
+     *
+     * @see #fromSingle(Observable, Single)
+     */
+    public static <L, R> Single<R> fromSingle(Observable<L> progress, Single<R> result,
+            Consumer<? super L> onProgress) {
+        ObjectHelper.requireNonNull(onProgress, "onProgress is null");
+        return rightOf(fromSingle(progress, result), onProgress).singleOrError();
+    }
+
+    /**
+     * Combines an observable of progress values with a possibly empty result into an
+     * {@link Either} observable, which emits the result as a Right, if any, and completes as
+     * soon as it arrives, disposing the progress observable right away. Completion of the
+     * progress observable is ignored.
+     */
+    public static <L, R> Observable<Either<L, R>> fromMaybe(Observable<L> progress,
+            Maybe<R> result) {
+        ObjectHelper.requireNonNull(result, "result is null");
+        return RxJavaPlugins.onAssembly(new ObservableEitherResult<L, R>(progress, result));
+    }
+
+    /**
+     * Combines an observable of progress values with a possibly empty result into a
+     * {@link Maybe} of that result, handing the progress values to the given {@link Consumer} on
+     * the way, with a single subscription to both.
+     *
+     * @see #fromMaybe(Observable, Maybe)
+     */
+    public static <L, R> Maybe<R> fromMaybe(Observable<L> progress, Maybe<R> result,
+            Consumer<? super L> onProgress) {
+        ObjectHelper.requireNonNull(onProgress, "onProgress is null");
+        return rightOf(fromMaybe(progress, result), onProgress).singleElement();
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable which has to emit its
+     * first right value within the given timeout, otherwise both sides are disposed and the
+     * outcome of the given {@link TimeoutPolicy} is emitted instead. Deadlines are tracked by a
+     * single timer wheel shared by every subscription, with a resolution of 10 milliseconds,
+     * rather than by a scheduled task per subscription. The timeout outcome is emitted on the
+     * computation {@link Scheduler}.
+     */
+    public static <L, R> Observable<Either<L, R>> fromWithDeadline(Observable<L> left,
+            Observable<R> right, long timeout, TimeUnit unit, TimeoutPolicy<L> policy) {
+        return fromWithDeadline(left, right, timeout, unit, policy, Schedulers.computation());
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable which has to emit its
+     * first right value within the given timeout, otherwise both sides are disposed and the
+     * outcome of the given {@link TimeoutPolicy} is emitted on the given {@link Scheduler}
+     * instead. Deadlines are tracked by a single timer wheel shared by every subscription, with a
+     * resolution of 10 milliseconds, rather than by a scheduled task per subscription.
+     */
+    public static <L, R> Observable<Either<L, R>> fromWithDeadline(Observable<L> left,
+            Observable<R> right, long timeout, TimeUnit unit, TimeoutPolicy<L> policy,
+            Scheduler scheduler) {
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        ObjectHelper.requireNonNull(policy, "policy is null");
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return RxJavaPlugins.onAssembly(new ObservableEitherDeadline<>(
+                new ObservableEither<>(left, right, EitherFactory.<L, R>instance()),
+                Math.max(0L, unit.toNanos(timeout)), policy, HashedTimerWheel.instance(),
+                scheduler));
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable which refills a single
+     * {@link Either} per subscription instead of allocating one for every value, meant for
+     * synchronous pipelines with a single observer. An emitted instance is only valid until the
+     * next value is emitted; use {@link Either#copy()} to keep it. Values which had to be queued
+     * behind another one are still emitted as their own instances.
+     */
+    public static <L, R> Observable<Either<L, R>> fromFlyweight(Observable<L> left,
+            Observable<R> right) {
+        return RxJavaPlugins.onAssembly(new ObservableEither<>(left, right,
+                ReusableEither.<L, R>factory()));
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable, buffering at most
+     * {@code leftCapacity} left values while the downstream is busy with another value. A left
+     * value arriving while the buffer is full is handled according to the given
+     * {@link BackpressureOverflowStrategy}, after the optional {@code onOverflow} {@link Action}
+     * has been invoked, so that it can count overflows. Right values are never dropped.
+     *
+     * <p>Only values waiting for a synchronous downstream count towards the capacity. An
+     * asynchronous downstream, such as {@link Observable#observeOn}, returns from {@code onNext}
+     * right away and queues values on its own, so it needs its own bound to cap memory.
+     */
+    public static <L, R> Observable<Either<L, R>> from(Observable<L> left, Observable<R> right,
+            int leftCapacity, Action onOverflow, BackpressureOverflowStrategy overflowStrategy) {
+        ObjectHelper.verifyPositive(leftCapacity, "leftCapacity");
+        ObjectHelper.requireNonNull(overflowStrategy, "overflowStrategy is null");
+        return RxJavaPlugins.onAssembly(new ObservableEither<>(left, right,
+                EitherFactory.<L, R>instance(), leftCapacity, onOverflow, overflowStrategy));
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable whose right values are
+     * only computed by the emitted {@link Callable}s once they are needed, e.g. by a join or by
+     * {@link #filterRight(Observable)}. Rights dropped by {@link #filterLeft(Observable)} are
+     * never computed.
+     *
+     * @see Either#lazyRight(Callable)
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R> Observable<Either<L, R>> fromLazy(Observable<L> left,
+            Observable<? extends Callable<? extends R>> right) {
+        Observable<?> either = new ObservableEither<>(left,
+                (Observable<Callable<? extends R>>) right, LazyEither.<L, R>rightFactory());
+        return RxJavaPlugins.onAssembly((Observable<Either<L, R>>) either);
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable, keeping only the latest
+     * left value which has not been emitted yet. Right values are never dropped or reordered.
+     */
+    public static <L, R> Observable<Either<L, R>> fromConflated(Observable<L> left,
+            Observable<R> right) {
+        return RxJavaPlugins.onAssembly(new ObservableEither<>(left, right,
+                EitherFactory.<L, R>instance(), true, Priority.FAIR));
+    }
+
+    /**
+     * Combines two observables into a single {@link Either} observable, emitting at most the
+     * latest left value of every {@code period} on the given {@link Scheduler}. The last left
+     * value is still emitted when the left side completes. Right values are never dropped or
+     * reordered.
+     */
+    public static <L, R> Observable<Either<L, R>> fromConflated(Observable<L> left,
+            Observable<R> right, long period, TimeUnit unit, Scheduler scheduler) {
+        return fromConflated(left.sample(period, unit, scheduler, true), right);
+    }
+
+    /**
+     * Combines two observables into a single observable of {@link Either}s holding runs of
+     * consecutive values of the same side, each at most {@code maxSize} long.
+     */
+    public static <L, R> Observable<Either<List<L>, List<R>>> buffered(Observable<L> left,
+            Observable<R> right, int maxSize) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.requireNonNull(right, "right is null");
+        ObjectHelper.verifyPositive(maxSize, "maxSize");
+        return RxJavaPlugins.onAssembly(new ObservableBufferEither<>(left, right, maxSize,
+                0L, null, null));
+    }
+
+    /**
+     * Combines two observables into a single observable of {@link Either}s holding runs of
+     * consecutive values of the same side, each at most {@code maxSize} long and emitted no later
+     * than {@code maxTime} after its first value, as measured on the given {@link Scheduler}.
+     */
+    public static <L, R> Observable<Either<List<L>, List<R>>> buffered(Observable<L> left,
+            Observable<R> right, int maxSize, long maxTime, TimeUnit unit, Scheduler scheduler) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.requireNonNull(right, "right is null");
+        ObjectHelper.verifyPositive(maxSize, "maxSize");
+        ObjectHelper.verifyPositive(maxTime, "maxTime");
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return RxJavaPlugins.onAssembly(new ObservableBufferEither<>(left, right, maxSize,
+                maxTime, unit, scheduler));
+    }
+
+    /**
+     * Combines three observables into a single {@link Either3} observable.
+     */
+    public static <A, B, C> Observable<Either3<A, B, C>> from(Observable<A> first,
+            Observable<B> second, Observable<C> third) {
+        return RxJavaPlugins.onAssembly(new ObservableEitherN<>(
+                new ObservableSource<?>[] {first, second, third},
+                Either3.<A, B, C>tagger()));
+    }
+
+    /**
+     * Combines four observables into a single {@link Either4} observable.
+     */
+    public static <A, B, C, D> Observable<Either4<A, B, C, D>> from(Observable<A> first,
+            Observable<B> second, Observable<C> third, Observable<D> fourth) {
+        return RxJavaPlugins.onAssembly(new ObservableEitherN<>(
+                new ObservableSource<?>[] {first, second, third, fourth},
+                Either4.<A, B, C, D>tagger()));
+    }
+
+    /**
+     * Combines five observables into a single {@link Either5} observable.
+     */
+    public static <A, B, C, D, E> Observable<Either5<A, B, C, D, E>> from(Observable<A> first,
+            Observable<B> second, Observable<C> third, Observable<D> fourth, Observable<E> fifth) {
+        return RxJavaPlugins.onAssembly(new ObservableEitherN<>(
+                new ObservableSource<?>[] {first, second, third, fourth, fifth},
+                Either5.<A, B, C, D, E>tagger()));
+    }
+
+    /**
+     * Combines six observables into a single {@link Either6} observable.
+     */
+    public static <A, B, C, D, E, F> Observable<Either6<A, B, C, D, E, F>> from(
+            Observable<A> first, Observable<B> second, Observable<C> third,
+            Observable<D> fourth, Observable<E> fifth, Observable<F> sixth) {
+        return RxJavaPlugins.onAssembly(new ObservableEitherN<>(
+                new ObservableSource<?>[] {first, second, third, fourth, fifth, sixth},
+                Either6.<A, B, C, D, E, F>tagger()));
+    }
+
+    /**
+     * Creates a {@link IntLeftEither} observable from an {@link IntLeftEither.OnSubscribe},
+     * which emits {@code int} left values without ever boxing them.
+     */
+    public static <R> Observable<IntLeftEither<R>> createInt(
+            IntLeftEither.OnSubscribe<R> source) {
+        ObjectHelper.requireNonNull(source, "source is null");
+        return RxJavaPlugins.onAssembly(IntLeftEither.create(source));
+    }
+
+    /**
+     * Combines two observables into a single {@link IntLeftEither} observable, unboxing the
+     * left values as they are merged. The left values still arrive boxed, so this saves no
+     * allocation per element, use {@link #createInt} to emit them without boxing.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Observable<IntLeftEither<R>> fromInt(Observable<Integer> left,
+            Observable<R> right) {
+        Observable<?> either = new ObservableEither<>(left, right, IntLeftEither.<R>factory());
+        return RxJavaPlugins.onAssembly((Observable<IntLeftEither<R>>) either);
+    }
+
+    /**
+     * Creates a {@link LongLeftEither} observable from an {@link LongLeftEither.OnSubscribe},
+     * which emits {@code long} left values without ever boxing them.
+     */
+    public static <R> Observable<LongLeftEither<R>> createLong(
+            LongLeftEither.OnSubscribe<R> source) {
+        ObjectHelper.requireNonNull(source, "source is null");
+        return RxJavaPlugins.onAssembly(LongLeftEither.create(source));
+    }
+
+    /**
+     * Combines two observables into a single {@link LongLeftEither} observable, unboxing the
+     * left values as they are merged. The left values still arrive boxed, so this saves no
+     * allocation per element, use {@link #createLong} to emit them without boxing.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Observable<LongLeftEither<R>> fromLong(Observable<Long> left,
+            Observable<R> right) {
+        Observable<?> either = new ObservableEither<>(left, right, LongLeftEither.<R>factory());
+        return RxJavaPlugins.onAssembly((Observable<LongLeftEither<R>>) either);
+    }
+
+    /**
+     * Creates a {@link DoubleLeftEither} observable from an {@link DoubleLeftEither.OnSubscribe},
+     * which emits {@code double} left values without ever boxing them.
+     */
+    public static <R> Observable<DoubleLeftEither<R>> createDouble(
+            DoubleLeftEither.OnSubscribe<R> source) {
+        ObjectHelper.requireNonNull(source, "source is null");
+        return RxJavaPlugins.onAssembly(DoubleLeftEither.create(source));
+    }
+
+    /**
+     * Combines two observables into a single {@link DoubleLeftEither} observable, unboxing the
+     * left values as they are merged. The left values still arrive boxed, so this saves no
+     * allocation per element, use {@link #createDouble} to emit them without boxing.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Observable<DoubleLeftEither<R>> fromDouble(Observable<Double> left,
+            Observable<R> right) {
+        Observable<?> either = new ObservableEither<>(left, right, DoubleLeftEither.<R>factory());
+        return RxJavaPlugins.onAssembly((Observable<DoubleLeftEither<R>>) either);
+    }
+
+    /**
+     * Creates only left {@link Either} type emitting flowable.
+     */
+    public static <L, R> Flowable<Either<L, R>> left(Flowable<L> left) {
+        return from(left, Flowable.<R>never());
+    }
+
+    /**
+     * Creates only right {@link Either} type emitting flowable.
+     */
+    public static <L, R> Flowable<Either<L, R>> right(Flowable<R> right) {
+        return from(Flowable.<L>never(), right);
+    }
+
+    /**
+     * Combines two flowables into a single {@link Either} flowable, prefetching up to
+     * {@link Flowable#bufferSize()} values from each side.
+     */
+    public static <L, R> Flowable<Either<L, R>> from(Flowable<L> left, Flowable<R> right) {
+        return from(left, right, Flowable.bufferSize());
+    }
+
+    /**
+     * Combines two flowables into a single {@link Either} flowable, prefetching up to
+     * {@code prefetch} values from each side.
+     */
+    public static <L, R> Flowable<Either<L, R>> from(Flowable<L> left, Flowable<R> right,
+            int prefetch) {
+        return from(left, right, prefetch, Priority.FAIR);
+    }
+
+    /**
+     * Combines two flowables into a single {@link Either} flowable, prefetching up to
+     * {@link Flowable#bufferSize()} values from each side and emitting values which are
+     * waiting to be delivered in the given {@link Priority} order.
+     */
+    public static <L, R> Flowable<Either<L, R>> from(Flowable<L> left, Flowable<R> right,
+            Priority priority) {
+        return from(left, right, Flowable.bufferSize(), priority);
+    }
+
+    /**
+     * Combines two flowables into a single {@link Either} flowable, prefetching up to
+     * {@code prefetch} values from each side and emitting values which are waiting to be
+     * delivered in the given {@link Priority} order.
+     */
+    public static <L, R> Flowable<Either<L, R>> from(Flowable<L> left, Flowable<R> right,
+            int prefetch, Priority priority) {
+        ObjectHelper.verifyPositive(prefetch, "prefetch");
+        ObjectHelper.requireNonNull(priority, "priority is null");
+        return RxJavaPlugins.onAssembly(new FlowableEither<>(left, right, prefetch, priority));
+    }
+
+    /**
+     * Combines two flowables into a single {@link Either} flowable, subscribing to both of them
+     * at the same time on separate workers of the given {@link Scheduler}.
+     *
+     * @see #from(Observable, Observable, Scheduler)
+     */
+    public static <L, R> Flowable<Either<L, R>> from(Flowable<L> left, Flowable<R> right,
+            Scheduler scheduler) {
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return from(left.subscribeOn(scheduler), right.subscribeOn(scheduler));
     }
 
     /**
@@ -48,15 +465,349 @@ public final class RxEither {
     /**
      * Filters left side of {@link Either} observable.
      */
-    public static <L, R> Observable<L> filterLeft(Observable<Either<L, R>> either) {
-        return either.filter(RxEither.<L, R>isLeft()).map(JoinLeft.<L, R>instance());
+    public static <L, R> Observable<L> filterLeft(Observable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(ObservableFilterEither.left(either));
     }
 
     /**
      * Filters right side of {@link Either} observable.
      */
-    public static <L, R> Observable<R> filterRight(Observable<Either<L, R>> either) {
-        return either.filter(RxEither.<L, R>isRight()).map(JoinRight.<L, R>instance());
+    public static <L, R> Observable<R> filterRight(Observable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(ObservableFilterEither.right(either));
+    }
+
+    /**
+     * Filters left side of {@link Either} flowable.
+     */
+    public static <L, R> Flowable<L> filterLeft(Flowable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(FlowableFilterEither.left(either));
+    }
+
+    /**
+     * Filters right side of {@link Either} flowable.
+     */
+    public static <L, R> Flowable<R> filterRight(Flowable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(FlowableFilterEither.right(either));
+    }
+
+    /**
+     * Filters left side of every rail of {@link Either} parallel flowable.
+     */
+    public static <L, R> ParallelFlowable<L> filterLeft(
+            ParallelFlowable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(ParallelFilterEither.left(either));
+    }
+
+    /**
+     * Filters right side of every rail of {@link Either} parallel flowable.
+     */
+    public static <L, R> ParallelFlowable<R> filterRight(
+            ParallelFlowable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(ParallelFilterEither.right(either));
+    }
+
+    /**
+     * Splits an {@link Either} flowable into {@code leftParallelism} rails of left values
+     * followed by {@code rightParallelism} rails of right values, sharing a single subscription
+     * to the source.
+     *
+     * <p>Both sets of rails are fed from one shared buffer, so the source is only requested as
+     * fast as the slower side consumes. A side falling behind throttles the other, while memory
+     * stays bounded by the buffer size.
+     */
+    public static <L, R> ParallelFlowable<Either<L, R>> parallel(Flowable<Either<L, R>> either,
+            int leftParallelism, int rightParallelism) {
+        ObjectHelper.verifyPositive(leftParallelism, "leftParallelism");
+        ObjectHelper.verifyPositive(rightParallelism, "rightParallelism");
+        return RxJavaPlugins.onAssembly(
+                new ParallelEitherRails<>(either, leftParallelism, rightParallelism));
+    }
+
+    /**
+     * Filters right side of {@link IntLeftEither} observable, handing unboxed left values to the
+     * given {@link IntConsumer} on the way.
+     */
+    public static <R> Observable<R> filterRight(Observable<? extends IntLeftEither<R>> either,
+            IntConsumer left) {
+        return RxJavaPlugins.onAssembly(
+                ObservableFilterEither.right(either, IntLeftEither.<R>leftConsumer(left)));
+    }
+
+    /**
+     * Filters right side of {@link LongLeftEither} observable, handing unboxed left values to the
+     * given {@link LongConsumer} on the way.
+     */
+    public static <R> Observable<R> filterRight(Observable<? extends LongLeftEither<R>> either,
+            LongConsumer left) {
+        return RxJavaPlugins.onAssembly(
+                ObservableFilterEither.right(either, LongLeftEither.<R>leftConsumer(left)));
+    }
+
+    /**
+     * Filters right side of {@link DoubleLeftEither} observable, handing unboxed left values to the
+     * given {@link DoubleConsumer} on the way.
+     */
+    public static <R> Observable<R> filterRight(Observable<? extends DoubleLeftEither<R>> either,
+            DoubleConsumer left) {
+        return RxJavaPlugins.onAssembly(
+                ObservableFilterEither.right(either, DoubleLeftEither.<R>leftConsumer(left)));
+    }
+
+    /**
+     * Filters first values of {@link Either3} to {@link Either6} observable.
+     */
+    public static <T> Observable<T> filterFirst(
+            Observable<? extends EitherN<T, ?, ?, ?, ?, ?>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableFilterEitherN<T>(either, 0));
+    }
+
+    /**
+     * Filters second values of {@link Either3} to {@link Either6} observable.
+     */
+    public static <T> Observable<T> filterSecond(
+            Observable<? extends EitherN<?, T, ?, ?, ?, ?>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableFilterEitherN<T>(either, 1));
+    }
+
+    /**
+     * Filters third values of {@link Either3} to {@link Either6} observable.
+     */
+    public static <T> Observable<T> filterThird(
+            Observable<? extends EitherN<?, ?, T, ?, ?, ?>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableFilterEitherN<T>(either, 2));
+    }
+
+    /**
+     * Filters fourth values of {@link Either4} to {@link Either6} observable.
+     */
+    public static <T> Observable<T> filterFourth(
+            Observable<? extends EitherN.AtLeast4<?, ?, ?, T, ?, ?>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableFilterEitherN<T>(either, 3));
+    }
+
+    /**
+     * Filters fifth values of {@link Either5} or {@link Either6} observable.
+     */
+    public static <T> Observable<T> filterFifth(
+            Observable<? extends EitherN.AtLeast5<?, ?, ?, ?, T, ?>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableFilterEitherN<T>(either, 4));
+    }
+
+    /**
+     * Filters sixth values of {@link Either6} observable.
+     */
+    public static <T> Observable<T> filterSixth(
+            Observable<? extends Either6<?, ?, ?, ?, ?, T>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableFilterEitherN<T>(either, 5));
+    }
+
+    /**
+     * Maps left values of {@link Either} observable, passing Rights through as they are.
+     */
+    public static <L, R, L1> Observable<Either<L1, R>> mapLeft(
+            Observable<? extends Either<L, R>> either, Function<L, L1> left) {
+        return RxJavaPlugins.onAssembly(ObservableMapEither.<L, R, L1>mapLeft(either, left));
+    }
+
+    /**
+     * Maps right values of {@link Either} observable, passing Lefts through as they are.
+     */
+    public static <L, R, R1> Observable<Either<L, R1>> mapRight(
+            Observable<? extends Either<L, R>> either, Function<R, R1> right) {
+        return RxJavaPlugins.onAssembly(ObservableMapEither.<L, R, R1>mapRight(either, right));
+    }
+
+    /**
+     * Maps left and right values of {@link Either} observable.
+     */
+    public static <L, R, L1, R1> Observable<Either<L1, R1>> bimap(
+            Observable<? extends Either<L, R>> either, Function<L, L1> left,
+            Function<R, R1> right) {
+        return RxJavaPlugins.onAssembly(
+                ObservableMapEither.<L, R, L1, R1>bimap(either, left, right));
+    }
+
+    /**
+     * Replaces Rights of {@link Either} observable with the {@link Either}s returned by
+     * {@code right}, passing Lefts through as they are.
+     */
+    public static <L, R, R1> Observable<Either<L, R1>> flatMapRight(
+            Observable<? extends Either<L, R>> either, Function<R, Either<L, R1>> right) {
+        return RxJavaPlugins.onAssembly(
+                ObservableMapEither.<L, R, R1>flatMapRight(either, right));
+    }
+
+    /**
+     * Flat maps Lefts of {@link Either} observable into the sources returned by {@code left},
+     * subscribing to at most {@code maxConcurrency} of them at a time, and emits their values as
+     * Lefts. Rights are passed through as they are and never wait for the Lefts.
+     */
+    public static <L, R, L1> Observable<Either<L1, R>> flatMapLeftObservable(
+            Observable<? extends Either<L, R>> either,
+            Function<? super L, ? extends ObservableSource<? extends L1>> left,
+            int maxConcurrency) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.verifyPositive(maxConcurrency, "maxConcurrency");
+        return RxJavaPlugins.onAssembly(ObservableFlatMapEither.<L, R, L1>flatMapLeftObservable(
+                either, left, maxConcurrency));
+    }
+
+    /**
+     * Flat maps Rights of {@link Either} observable into the sources returned by {@code right},
+     * subscribing to at most {@code maxConcurrency} of them at a time, and emits their values as
+     * Rights. Lefts are passed through as they are and never wait for the Rights.
+     *
+     * <p>Unlike {@link #flatMapRight(Observable, Function)}, which binds each Right to another
+     * {@link Either}, this is the Rx {@code flatMap} applied to the Rights.
+     */
+    public static <L, R, R1> Observable<Either<L, R1>> flatMapRightObservable(
+            Observable<? extends Either<L, R>> either,
+            Function<? super R, ? extends ObservableSource<? extends R1>> right,
+            int maxConcurrency) {
+        ObjectHelper.requireNonNull(right, "right is null");
+        ObjectHelper.verifyPositive(maxConcurrency, "maxConcurrency");
+        return RxJavaPlugins.onAssembly(ObservableFlatMapEither.<L, R, R1>flatMapRightObservable(
+                either, right, maxConcurrency));
+    }
+
+    /**
+     * Flat maps Lefts and Rights of {@link Either} observable into the sources returned by
+     * {@code left} and {@code right} respectively, each side with its own concurrency limit and
+     * inner queues, so that a flood of one side never takes the concurrency of the other. The
+     * merged stream completes once both sides and all of their sources have completed.
+     */
+    public static <L, R, L1, R1> Observable<Either<L1, R1>> flatMapBoth(
+            Observable<? extends Either<L, R>> either,
+            Function<? super L, ? extends ObservableSource<? extends L1>> left,
+            int leftMaxConcurrency,
+            Function<? super R, ? extends ObservableSource<? extends R1>> right,
+            int rightMaxConcurrency) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.verifyPositive(leftMaxConcurrency, "leftMaxConcurrency");
+        ObjectHelper.requireNonNull(right, "right is null");
+        ObjectHelper.verifyPositive(rightMaxConcurrency, "rightMaxConcurrency");
+        return RxJavaPlugins.onAssembly(ObservableFlatMapEither.<L, R, L1, R1>flatMapBoth(
+                either, left, leftMaxConcurrency, right, rightMaxConcurrency));
+    }
+
+    /**
+     * Splits {@link Either} observable into left and right observables sharing a single
+     * subscription to it, which is made once both sides are observed or on
+     * {@link EitherPartition#connect()}.
+     */
+    public static <L, R> EitherPartition<L, R> partition(Observable<Either<L, R>> either) {
+        return new EitherPartition<>(new ObservablePartition<>(either));
+    }
+
+    /**
+     * Drains an {@link Either} observable into a list of left and a list of right values with a
+     * single subscription, emitting both once it completes.
+     */
+    public static <L, R> Single<Partitioned<List<L>, List<R>>> collectPartitioned(
+            Observable<? extends Either<L, R>> either) {
+        return collectPartitioned(either, 16);
+    }
+
+    /**
+     * Drains an {@link Either} observable into a list of left and a list of right values, each
+     * pre-sized to {@code capacityHint}, with a single subscription, emitting both once it
+     * completes.
+     */
+    public static <L, R> Single<Partitioned<List<L>, List<R>>> collectPartitioned(
+            Observable<? extends Either<L, R>> either, int capacityHint) {
+        ObjectHelper.verifyPositive(capacityHint, "capacityHint");
+        return collectPartitioned(either, new ListSupplier<L>(capacityHint),
+                new ListSupplier<R>(capacityHint));
+    }
+
+    /**
+     * Drains an {@link Either} observable into collections created by the given suppliers for
+     * every subscription, with a single subscription to the observable, emitting both once it
+     * completes.
+     */
+    public static <L, R, CL extends Collection<? super L>, CR extends Collection<? super R>>
+            Single<Partitioned<CL, CR>> collectPartitioned(Observable<? extends Either<L, R>> either,
+            Callable<? extends CL> left, Callable<? extends CR> right) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.requireNonNull(right, "right is null");
+        return RxJavaPlugins.onAssembly(
+                new ObservableCollectPartitioned<L, R, CL, CR>(either, left, right));
+    }
+
+    /**
+     * Counts the left and the right values of an {@link Either} observable with a single
+     * subscription, without accessing the values themselves.
+     */
+    public static <L, R> Single<EitherSummary> countPartitioned(
+            Observable<? extends Either<L, R>> either) {
+        return RxJavaPlugins.onAssembly(new ObservableSummarizeEither<L, R>(either, null, null));
+    }
+
+    /**
+     * Counts the left and the right values of an {@link Either} observable and sums them as
+     * mapped by the given {@link ToLongFunction}s with a single subscription.
+     */
+    public static <L, R> Single<EitherSummary> summarizePartitioned(
+            Observable<? extends Either<L, R>> either,
+            ToLongFunction<? super L> left, ToLongFunction<? super R> right) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.requireNonNull(right, "right is null");
+        return RxJavaPlugins.onAssembly(new ObservableSummarizeEither<L, R>(either, left, right));
+    }
+
+    /**
+     * Demultiplexes an {@link Either} observable of many jobs into per-key views, each replaying
+     * the latest left value of its key like {@link #cacheLatest(Observable)} and completing after
+     * the right value of its key, at the cost of a few small objects per key instead of a group
+     * per key. A key is forgotten as soon as its right value has been emitted, so no right
+     * values are replayed to late observers.
+     *
+     * @see KeyedEither
+     */
+    public static <K, L, R> KeyedEither<K, L, R> keyed(Observable<? extends Either<L, R>> either,
+            Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey) {
+        return keyed(either, leftKey, rightKey, 0);
+    }
+
+    /**
+     * Demultiplexes an {@link Either} observable of many jobs into per-key views like
+     * {@link #keyed(Observable, Function, Function)}, replaying the right values of the given
+     * number of most recently finished keys to late observers. Left values arriving for a key
+     * whose right value is still retained are dropped.
+     *
+     * @see KeyedEither
+     */
+    public static <K, L, R> KeyedEither<K, L, R> keyed(Observable<? extends Either<L, R>> either,
+            Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey,
+            int retainedResults) {
+        ObjectHelper.requireNonNull(either, "either is null");
+        ObjectHelper.requireNonNull(leftKey, "leftKey is null");
+        ObjectHelper.requireNonNull(rightKey, "rightKey is null");
+        if (retainedResults < 0) {
+            throw new IllegalArgumentException(
+                    "retainedResults >= 0 required but it was " + retainedResults);
+        }
+        return new KeyedEither<K, L, R>(either, leftKey, rightKey, retainedResults);
+    }
+
+    /**
+     * Shares a single subscription to an {@link Either} observable, replaying its latest left
+     * value and all of its right values to observers which subscribe later. The subscription is
+     * disposed once every observer has gone before it terminated.
+     */
+    public static <L, R> Observable<Either<L, R>> cacheLatest(Observable<Either<L, R>> either) {
+        return cacheLatest(either, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Shares a single subscription to an {@link Either} observable, replaying its latest left
+     * value and its last {@code rightCount} right values to observers which subscribe later. The
+     * subscription is disposed once every observer has gone before it terminated.
+     */
+    public static <L, R> Observable<Either<L, R>> cacheLatest(Observable<Either<L, R>> either,
+            int rightCount) {
+        ObjectHelper.verifyPositive(rightCount, "rightCount");
+        return RxJavaPlugins.onAssembly(new ObservableCacheLatest<>(either, rightCount));
     }
 
     /**
@@ -66,6 +817,33 @@ public final class RxEither {
         return ContinuedLazy.create(left, right);
     }
 
+    /**
+     * Creates an {@link Consumer} to lazily invoke the provided fold consumers with unboxed left
+     * values of {@link IntLeftEither}.
+     */
+    public static <R> Consumer<IntLeftEither<R>> continuedIntLazy(IntConsumer left,
+            Consumer<R> right) {
+        return ContinuedIntLazy.create(left, right);
+    }
+
+    /**
+     * Creates an {@link Consumer} to lazily invoke the provided fold consumers with unboxed left
+     * values of {@link LongLeftEither}.
+     */
+    public static <R> Consumer<LongLeftEither<R>> continuedLongLazy(LongConsumer left,
+            Consumer<R> right) {
+        return ContinuedLongLazy.create(left, right);
+    }
+
+    /**
+     * Creates an {@link Consumer} to lazily invoke the provided fold consumers with unboxed left
+     * values of {@link DoubleLeftEither}.
+     */
+    public static <R> Consumer<DoubleLeftEither<R>> continuedDoubleLazy(DoubleConsumer left,
+            Consumer<R> right) {
+        return ContinuedDoubleLazy.create(left, right);
+    }
+
     /**
      * Creates a {@link Function} to lazily get a fold result from the provided {@link Function}s.
      */
@@ -73,6 +851,68 @@ public final class RxEither {
         return JoinLazy.create(left, right);
     }
 
+    /**
+     * Creates a {@link Function} to lazily get a fold result of {@link Either3} from the
+     * provided {@link Function}s.
+     */
+    public static <A, B, C, T> Function<Either3<A, B, C>, T> joinLazy(Function<A, T> first,
+            Function<B, T> second, Function<C, T> third) {
+        return new JoinLazyN<Either3<A, B, C>, T>(first, second, third);
+    }
+
+    /**
+     * Creates a {@link Function} to lazily get a fold result of {@link Either4} from the
+     * provided {@link Function}s.
+     */
+    public static <A, B, C, D, T> Function<Either4<A, B, C, D>, T> joinLazy(Function<A, T> first,
+            Function<B, T> second, Function<C, T> third, Function<D, T> fourth) {
+        return new JoinLazyN<Either4<A, B, C, D>, T>(first, second, third, fourth);
+    }
+
+    /**
+     * Creates a {@link Function} to lazily get a fold result of {@link Either5} from the
+     * provided {@link Function}s.
+     */
+    public static <A, B, C, D, E, T> Function<Either5<A, B, C, D, E>, T> joinLazy(
+            Function<A, T> first, Function<B, T> second, Function<C, T> third,
+            Function<D, T> fourth, Function<E, T> fifth) {
+        return new JoinLazyN<Either5<A, B, C, D, E>, T>(first, second, third, fourth, fifth);
+    }
+
+    /**
+     * Creates a {@link Function} to lazily get a fold result of {@link Either6} from the
+     * provided {@link Function}s.
+     */
+    public static <A, B, C, D, E, F, T> Function<Either6<A, B, C, D, E, F>, T> joinLazy(
+            Function<A, T> first, Function<B, T> second, Function<C, T> third,
+            Function<D, T> fourth, Function<E, T> fifth, Function<F, T> sixth) {
+        return new JoinLazyN<Either6<A, B, C, D, E, F>, T>(
+                first, second, third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Folds every rail of an {@link Either} parallel flowable with the provided
+     * {@link Function}s.
+     */
+    public static <L, R, T> ParallelFlowable<T> joinLazy(
+            ParallelFlowable<? extends Either<L, R>> either,
+            Function<L, T> left, Function<R, T> right) {
+        return either.map(JoinLazy.create(left, right));
+    }
+
+    /**
+     * Folds an {@link Either} flowable with the provided {@link Function}s, running up to
+     * {@code maxConcurrency} folds at a time on the given {@link Scheduler} while emitting the
+     * results in the order of the source.
+     */
+    public static <L, R, T> Flowable<T> joinLazyOrdered(Flowable<? extends Either<L, R>> either,
+            Function<L, T> left, Function<R, T> right, int maxConcurrency, Scheduler scheduler) {
+        ObjectHelper.verifyPositive(maxConcurrency, "maxConcurrency");
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return either.concatMapEager(
+                new JoinOn<>(JoinLazy.create(left, right), scheduler), maxConcurrency, 1);
+    }
+
     private static class ContinuedLazy<L, R> implements Consumer<Either<L, R>> {
         private final Consumer<L> left;
         private final Consumer<R> right;
@@ -86,9 +926,86 @@ public final class RxEither {
             this.right = right;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void accept(Either<L, R> lrEither) throws Exception {
-            lrEither.continued(left, right);
+            if (lrEither.isLeft()) {
+                left.accept((L) lrEither.value());
+            } else {
+                right.accept((R) lrEither.value());
+            }
+        }
+    }
+
+    private static class ContinuedIntLazy<R> implements Consumer<IntLeftEither<R>> {
+        private final Consumer<Either<Integer, R>> left;
+        private final Consumer<R> right;
+
+        static <R> Consumer<IntLeftEither<R>> create(IntConsumer left, Consumer<R> right) {
+            return new ContinuedIntLazy<>(left, right);
+        }
+
+        private ContinuedIntLazy(IntConsumer left, Consumer<R> right) {
+            this.left = IntLeftEither.leftConsumer(left);
+            this.right = right;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void accept(IntLeftEither<R> either) throws Exception {
+            if (either.isLeft()) {
+                left.accept(either);
+            } else {
+                right.accept((R) either.value());
+            }
+        }
+    }
+
+    private static class ContinuedLongLazy<R> implements Consumer<LongLeftEither<R>> {
+        private final Consumer<Either<Long, R>> left;
+        private final Consumer<R> right;
+
+        static <R> Consumer<LongLeftEither<R>> create(LongConsumer left, Consumer<R> right) {
+            return new ContinuedLongLazy<>(left, right);
+        }
+
+        private ContinuedLongLazy(LongConsumer left, Consumer<R> right) {
+            this.left = LongLeftEither.leftConsumer(left);
+            this.right = right;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void accept(LongLeftEither<R> either) throws Exception {
+            if (either.isLeft()) {
+                left.accept(either);
+            } else {
+                right.accept((R) either.value());
+            }
+        }
+    }
+
+    private static class ContinuedDoubleLazy<R> implements Consumer<DoubleLeftEither<R>> {
+        private final Consumer<Either<Double, R>> left;
+        private final Consumer<R> right;
+
+        static <R> Consumer<DoubleLeftEither<R>> create(DoubleConsumer left, Consumer<R> right) {
+            return new ContinuedDoubleLazy<>(left, right);
+        }
+
+        private ContinuedDoubleLazy(DoubleConsumer left, Consumer<R> right) {
+            this.left = DoubleLeftEither.leftConsumer(left);
+            this.right = right;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void accept(DoubleLeftEither<R> either) throws Exception {
+            if (either.isLeft()) {
+                left.accept(either);
+            } else {
+                right.accept((R) either.value());
+            }
         }
     }
 
@@ -105,41 +1022,75 @@ public final class RxEither {
             this.right = right;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
-        public T apply(Either<L, R> lrEither) {
-            return lrEither.join(left, right);
+        public T apply(Either<L, R> lrEither) throws Exception {
+            return lrEither.isLeft()
+                    ? left.apply((L) lrEither.value()) : right.apply((R) lrEither.value());
         }
     }
 
-    private static class JoinLeft<L, R> implements Function<Either<L, R>, L> {
+    private static final class JoinLazyN<U extends EitherN<?, ?, ?, ?, ?, ?>, T>
+            implements Function<U, T> {
+        private final Function<Object, T>[] functions;
+
+        @SafeVarargs
         @SuppressWarnings("unchecked")
-        static <L, R> JoinLeft<L, R> instance() {
-            return (JoinLeft<L, R>) Holder.INSTANCE;
+        JoinLazyN(Function<?, T>... functions) {
+            this.functions = (Function<Object, T>[]) functions;
         }
 
         @Override
-        public L apply(Either<L, R> lrEither) throws Exception {
-            return lrEither.join(Identity.<L>instance(), Nothing.<R, L>instance());
+        public T apply(U either) throws Exception {
+            return functions[either.index].apply(either.value);
         }
+    }
 
-        private static class Holder {
-            static final JoinLeft<?, ?> INSTANCE = new JoinLeft<>();
-        }
+    /**
+     * Filters right side of {@link Either} observable, handing the unwrapped left values to the
+     * given {@link Consumer} on the way.
+     */
+    private static <L, R> Observable<R> rightOf(Observable<? extends Either<L, R>> either,
+            final Consumer<? super L> left) {
+        return ObservableFilterEither.right(either, new Consumer<Either<L, R>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public void accept(Either<L, R> value) throws Exception {
+                left.accept((L) value.value());
+            }
+        });
     }
 
-    private static class JoinRight<L, R> implements Function<Either<L, R>, R> {
-        @SuppressWarnings("unchecked")
-        static <L, R> JoinRight<L, R> instance() {
-            return (JoinRight<L, R>) Holder.INSTANCE;
+    private static final class ListSupplier<T> implements Callable<List<T>> {
+        private final int capacity;
+
+        ListSupplier(int capacity) {
+            this.capacity = capacity;
         }
 
         @Override
-        public R apply(Either<L, R> lrEither) throws Exception {
-            return lrEither.join(Nothing.<L, R>instance(), Identity.<R>instance());
+        public List<T> call() {
+            return new ArrayList<>(capacity);
         }
+    }
 
-        private static class Holder {
-            static final JoinRight<?, ?> INSTANCE = new JoinRight<>();
+    private static final class JoinOn<L, R, T> implements Function<Either<L, R>, Flowable<T>> {
+        private final Function<Either<L, R>, T> join;
+        private final Scheduler scheduler;
+
+        JoinOn(Function<Either<L, R>, T> join, Scheduler scheduler) {
+            this.join = join;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public Flowable<T> apply(final Either<L, R> either) {
+            return Flowable.fromCallable(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    return join.apply(either);
+                }
+            }).subscribeOn(scheduler);
         }
     }
 
@@ -177,38 +1128,6 @@ public final class RxEither {
         }
     }
 
-    private static class Nothing<T, R> implements Function<T, R> {
-        @SuppressWarnings("unchecked")
-        static <T, R> Nothing<T, R> instance() {
-            return (Nothing<T, R>) Holder.INSTANCE;
-        }
-
-        @Override
-        public R apply(T t) throws Exception {
-            return null;
-        }
-
-        private static class Holder {
-            static final Nothing<?, ?> INSTANCE = new Nothing<>();
-        }
-    }
-
-    private static class Identity<T> implements Function<T, T> {
-        @SuppressWarnings("unchecked")
-        static <T> Identity<T> instance() {
-            return (Identity<T>) Holder.INSTANCE;
-        }
-
-        @Override
-        public T apply(T t) throws Exception {
-            return t;
-        }
-
-        private static class Holder {
-            static final Identity<?> INSTANCE = new Identity<>();
-        }
-    }
-
     private RxEither() {
         throw new AssertionError("No instances");
     }
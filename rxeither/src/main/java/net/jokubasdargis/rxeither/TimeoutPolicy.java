@@ -0,0 +1,44 @@
+package net.jokubasdargis.rxeither;
+
+import java.util.concurrent.TimeoutException;
+
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * What {@link RxEither#fromWithDeadline} emits when no right value arrives in time: either a
+ * left marker value followed by completion, or a {@link TimeoutException}.
+ *
+ * @param <L> The type of left value.
+ */
+public final class TimeoutPolicy<L> {
+
+    private static final TimeoutPolicy<Object> ERROR = new TimeoutPolicy<>(null);
+
+    private final L marker;
+
+    private TimeoutPolicy(L marker) {
+        this.marker = marker;
+    }
+
+    /**
+     * @return the policy failing with a {@link TimeoutException}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <L> TimeoutPolicy<L> error() {
+        return (TimeoutPolicy<L>) ERROR;
+    }
+
+    /**
+     * @return the policy emitting the given left value and completing.
+     */
+    public static <L> TimeoutPolicy<L> left(L marker) {
+        return new TimeoutPolicy<>(ObjectHelper.requireNonNull(marker, "marker is null"));
+    }
+
+    /**
+     * @return the left marker value, null when failing with a {@link TimeoutException}.
+     */
+    L marker() {
+        return marker;
+    }
+}
@@ -0,0 +1,13 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface (callback) that accepts a single {@code double} value.
+ */
+public interface DoubleConsumer {
+    /**
+     * Consume the given value.
+     * @param value the value
+     * @throws Exception on error
+     */
+    void accept(double value) throws Exception;
+}
@@ -0,0 +1,14 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface that takes a {@code double} value and returns another {@code double}.
+ */
+public interface DoubleUnaryOperator {
+    /**
+     * Apply some calculation to the input value and return some other value.
+     * @param value the input value
+     * @return the output value
+     * @throws Exception on error
+     */
+    double apply(double value) throws Exception;
+}
@@ -0,0 +1,13 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface (callback) that accepts a single {@code int} value.
+ */
+public interface IntConsumer {
+    /**
+     * Consume the given value.
+     * @param value the value
+     * @throws Exception on error
+     */
+    void accept(int value) throws Exception;
+}
@@ -0,0 +1,14 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface that takes a {@code int} value and returns another {@code int}.
+ */
+public interface IntUnaryOperator {
+    /**
+     * Apply some calculation to the input value and return some other value.
+     * @param value the input value
+     * @return the output value
+     * @throws Exception on error
+     */
+    int apply(int value) throws Exception;
+}
@@ -0,0 +1,14 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface that takes a {@code long} value and returns another {@code long}.
+ */
+public interface LongUnaryOperator {
+    /**
+     * Apply some calculation to the input value and return some other value.
+     * @param value the input value
+     * @return the output value
+     * @throws Exception on error
+     */
+    long apply(long value) throws Exception;
+}
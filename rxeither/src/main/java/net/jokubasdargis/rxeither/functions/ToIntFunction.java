@@ -0,0 +1,16 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface that takes a value and returns a {@code int}.
+ *
+ * @param <T> the input value type
+ */
+public interface ToIntFunction<T> {
+    /**
+     * Apply some calculation to the input value and return a {@code int}.
+     * @param value the input value
+     * @return the output value
+     * @throws Exception on error
+     */
+    int apply(T value) throws Exception;
+}
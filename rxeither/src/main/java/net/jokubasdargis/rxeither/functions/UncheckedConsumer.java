@@ -0,0 +1,15 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface (callback) that accepts a single value, without declaring a checked
+ * exception.
+ *
+ * @param <T> the value type
+ */
+public interface UncheckedConsumer<T> {
+    /**
+     * Consume the given value.
+     * @param t the value
+     */
+    void accept(T t);
+}
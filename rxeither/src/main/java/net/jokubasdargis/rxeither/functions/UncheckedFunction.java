@@ -0,0 +1,17 @@
+package net.jokubasdargis.rxeither.functions;
+
+/**
+ * A functional interface that takes a value and returns another value, without declaring a
+ * checked exception.
+ *
+ * @param <T> the input value type
+ * @param <R> the output value type
+ */
+public interface UncheckedFunction<T, R> {
+    /**
+     * Apply some calculation to the input value and return some other value.
+     * @param t the input value
+     * @return the output value
+     */
+    R apply(T t);
+}
@@ -0,0 +1,73 @@
+package net.jokubasdargis.rxeither;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.junit.Test;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+@SuppressWarnings("unchecked")
+public final class EitherNTest {
+
+    private final Consumer<Integer> actionInt = mock(Consumer.class);
+    private final Consumer<String> actionString = mock(Consumer.class);
+    private final Consumer<Long> actionLong = mock(Consumer.class);
+
+    @Test
+    public void continuedThird() throws Exception {
+        Either3<Integer, String, Long> either = Either3.third(1L);
+
+        either.continued(actionInt, actionString, actionLong);
+
+        verify(actionLong).accept(1L);
+        verifyNoMoreInteractions(actionInt, actionString);
+    }
+
+    @Test
+    public void joinFifth() {
+        Either6<Integer, Integer, Integer, Integer, String, Integer> either = Either6.fifth("e");
+
+        String value = either.join(new Constant<Integer>("a"), new Constant<Integer>("b"),
+                new Constant<Integer>("c"), new Constant<Integer>("d"), new Constant<String>(null),
+                new Constant<Integer>("f"));
+
+        assertThat(value).isEqualTo("e");
+        assertThat(either.index()).isEqualTo(4);
+    }
+
+    @Test
+    public void equalsComparesIndexAndValue() {
+        assertThat(Either4.<String, String, String, String>second("a"))
+                .isEqualTo(Either4.<String, String, String, String>second("a"));
+        assertThat(Either4.<String, String, String, String>second("a"))
+                .isNotEqualTo(Either4.<String, String, String, String>third("a"));
+        assertThat(Either4.<String, String, String, String>second("a"))
+                .isNotEqualTo(Either5.<String, String, String, String, String>second("a"));
+    }
+
+    @Test
+    public void toStringShowsIndex() {
+        assertThat(Either5.first("a").toString()).isEqualTo("Either5{index=0, value=a}");
+    }
+
+    /**
+     * Returns its value if set, the applied value otherwise.
+     */
+    private static final class Constant<T> implements Function<T, String> {
+
+        private final String value;
+
+        Constant(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String apply(T t) {
+            return value != null ? value : String.valueOf(t);
+        }
+    }
+}
@@ -4,7 +4,12 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
+import java.util.concurrent.Callable;
+
+import net.jokubasdargis.rxeither.functions.UncheckedConsumer;
+import net.jokubasdargis.rxeither.functions.UncheckedFunction;
 import org.junit.Test;
 
 import io.reactivex.functions.Consumer;
@@ -21,6 +26,12 @@ public final class EitherTest {
     private final Function<EventB, EventB> funcBB = mock(Function.class);
     private final Consumer<EventA> actionA = mock(Consumer.class);
     private final Consumer<EventB> actionB = mock(Consumer.class);
+    private final UncheckedFunction<EventA, EventA> uncheckedFuncAA =
+            mock(UncheckedFunction.class);
+    private final UncheckedFunction<EventB, EventA> uncheckedFuncBA =
+            mock(UncheckedFunction.class);
+    private final UncheckedConsumer<EventA> uncheckedActionA = mock(UncheckedConsumer.class);
+    private final UncheckedConsumer<EventB> uncheckedActionB = mock(UncheckedConsumer.class);
 
     @Test
     public void joinLeft() throws Exception {
@@ -62,6 +73,67 @@ public final class EitherTest {
         verifyNoMoreInteractions(actionA);
     }
 
+    @Test
+    public void mapLeftOfLeft() throws Exception {
+        when(funcAB.apply(eventA)).thenReturn(eventB);
+        Either<EventA, EventB> left = Either.left(eventA);
+
+        assertThat(left.mapLeft(funcAB)).isEqualTo(Either.<EventB, EventB>left(eventB));
+    }
+
+    @Test
+    public void mapLeftOfRightKeepsInstance() {
+        Either<EventA, EventB> right = Either.right(eventB);
+
+        assertThat(right.mapLeft(funcAB)).isSameAs(right);
+        verifyNoMoreInteractions(funcAB);
+    }
+
+    @Test
+    public void copyKeepsImmutableInstance() {
+        Either<EventA, EventB> left = Either.left(eventA);
+
+        assertThat(left.copy()).isSameAs(left);
+    }
+
+    @Test
+    public void mapRightOfRight() throws Exception {
+        when(funcBA.apply(eventB)).thenReturn(eventA);
+        Either<EventA, EventB> right = Either.right(eventB);
+
+        assertThat(right.mapRight(funcBA)).isEqualTo(Either.<EventA, EventA>right(eventA));
+    }
+
+    @Test
+    public void mapRightOfLeftKeepsInstance() {
+        Either<EventA, EventB> left = Either.left(eventA);
+
+        assertThat(left.mapRight(funcBA)).isSameAs(left);
+        verifyNoMoreInteractions(funcBA);
+    }
+
+    @Test
+    public void bimap() throws Exception {
+        when(funcAB.apply(eventA)).thenReturn(eventB);
+        when(funcBA.apply(eventB)).thenReturn(eventA);
+        Either<EventA, EventB> left = Either.left(eventA);
+        Either<EventA, EventB> right = Either.right(eventB);
+
+        assertThat(left.bimap(funcAB, funcBA)).isEqualTo(Either.<EventB, EventA>left(eventB));
+        assertThat(right.bimap(funcAB, funcBA)).isEqualTo(Either.<EventB, EventA>right(eventA));
+    }
+
+    @Test
+    public void flatMapRight() throws Exception {
+        Function<EventB, Either<EventA, EventA>> func = mock(Function.class);
+        when(func.apply(eventB)).thenReturn(Either.<EventA, EventA>left(eventA));
+        Either<EventA, EventB> right = Either.right(eventB);
+        Either<EventA, EventB> left = Either.left(eventA);
+
+        assertThat(right.flatMapRight(func)).isEqualTo(Either.<EventA, EventA>left(eventA));
+        assertThat(left.flatMapRight(func)).isSameAs(left);
+    }
+
     @Test
     public void leftEquals() {
         Either<EventA, EventB> left1 = Either.left(eventA);
@@ -105,4 +177,55 @@ public final class EitherTest {
 
         assertThat(right.isLeft()).isFalse();
     }
+
+    @Test
+    public void foldRight() {
+        Either<EventA, EventB> right = Either.right(eventB);
+        when(uncheckedFuncBA.apply(eventB)).thenReturn(eventA);
+
+        assertThat(right.fold(uncheckedFuncAA, uncheckedFuncBA)).isSameAs(eventA);
+        verifyNoMoreInteractions(uncheckedFuncAA);
+    }
+
+    @Test
+    public void consumeLeft() {
+        Either<EventA, EventB> left = Either.left(eventA);
+
+        left.consume(uncheckedActionA, uncheckedActionB);
+
+        verify(uncheckedActionA).accept(eventA);
+        verifyNoMoreInteractions(uncheckedActionB);
+    }
+
+    @Test
+    public void joinRethrowsRuntimeExceptionUnwrapped() throws Exception {
+        IllegalStateException error = new IllegalStateException();
+        Either<EventA, EventB> left = Either.left(eventA);
+        when(funcAA.apply(eventA)).thenThrow(error);
+
+        try {
+            left.join(funcAA, funcBA);
+            throw new AssertionError();
+        } catch (IllegalStateException e) {
+            assertThat(e).isSameAs(error);
+        }
+    }
+
+    @Test
+    public void lazyRightIsComputedOnceWhenJoined() throws Exception {
+        Callable<EventB> callable = mock(Callable.class);
+        when(callable.call()).thenReturn(eventB);
+        Either<EventA, EventB> right = Either.lazyRight(callable);
+
+        assertThat(right.isRight()).isTrue();
+        assertThat(right.isLeft()).isFalse();
+        verifyNoMoreInteractions(callable);
+
+        right.join(funcAB, funcBB);
+        right.continued(actionA, actionB);
+
+        verify(callable).call();
+        verify(funcBB).apply(eventB);
+        verify(actionB).accept(eventB);
+    }
 }
@@ -0,0 +1,136 @@
+package net.jokubasdargis.rxeither;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import net.jokubasdargis.rxeither.functions.DoubleConsumer;
+import net.jokubasdargis.rxeither.functions.IntConsumer;
+import net.jokubasdargis.rxeither.functions.IntUnaryOperator;
+import net.jokubasdargis.rxeither.functions.LongUnaryOperator;
+import net.jokubasdargis.rxeither.functions.ToIntFunction;
+import net.jokubasdargis.rxeither.functions.ToLongFunction;
+import org.junit.Test;
+
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+@SuppressWarnings("unchecked")
+public final class PrimitiveLeftEitherTest {
+
+    private final EventB eventB = new EventB();
+    private final IntConsumer intConsumer = mock(IntConsumer.class);
+    private final DoubleConsumer doubleConsumer = mock(DoubleConsumer.class);
+    private final Consumer<EventB> actionB = mock(Consumer.class);
+
+    private final IntUnaryOperator plusOne = new IntUnaryOperator() {
+        @Override
+        public int apply(int value) {
+            return value + 1;
+        }
+    };
+    private final ToIntFunction<EventB> intZero = new ToIntFunction<EventB>() {
+        @Override
+        public int apply(EventB value) {
+            return 0;
+        }
+    };
+
+    @Test
+    public void continuedIntLeft() throws Exception {
+        IntLeftEither<EventB> left = IntLeftEither.ofLeft(42);
+
+        left.continuedInt(intConsumer, actionB);
+
+        verify(intConsumer).accept(42);
+        verifyNoMoreInteractions(actionB);
+    }
+
+    @Test
+    public void continuedIntRight() throws Exception {
+        IntLeftEither<EventB> right = IntLeftEither.ofRight(eventB);
+
+        right.continuedInt(intConsumer, actionB);
+
+        verify(actionB).accept(eventB);
+        verifyNoMoreInteractions(intConsumer);
+    }
+
+    @Test
+    public void continuedDoubleLeft() throws Exception {
+        DoubleLeftEither<EventB> left = DoubleLeftEither.ofLeft(0.5);
+
+        left.continuedDouble(doubleConsumer, actionB);
+
+        verify(doubleConsumer).accept(0.5);
+        verifyNoMoreInteractions(actionB);
+    }
+
+    @Test
+    public void joinToInt() {
+        assertThat(IntLeftEither.<EventB>ofLeft(41).joinToInt(plusOne, intZero)).isEqualTo(42);
+        assertThat(IntLeftEither.ofRight(eventB).joinToInt(plusOne, intZero)).isEqualTo(0);
+    }
+
+    @Test
+    public void joinToLong() {
+        LongLeftEither<EventB> left = LongLeftEither.ofLeft(Long.MAX_VALUE);
+
+        long result = left.joinToLong(new LongUnaryOperator() {
+            @Override
+            public long apply(long value) {
+                return value - 1;
+            }
+        }, new ToLongFunction<EventB>() {
+            @Override
+            public long apply(EventB value) {
+                return 0;
+            }
+        });
+
+        assertThat(result).isEqualTo(Long.MAX_VALUE - 1);
+    }
+
+    @Test
+    public void isLeftAndIsRight() {
+        assertThat(IntLeftEither.ofLeft(1).isLeft()).isTrue();
+        assertThat(IntLeftEither.ofLeft(1).isRight()).isFalse();
+        assertThat(IntLeftEither.ofRight(eventB).isRight()).isTrue();
+        assertThat(IntLeftEither.ofRight(eventB).isLeft()).isFalse();
+    }
+
+    @Test
+    public void leftEquals() {
+        assertThat(IntLeftEither.ofLeft(1000)).isEqualTo(IntLeftEither.ofLeft(1000));
+        assertThat(IntLeftEither.ofLeft(1000).hashCode())
+                .isEqualTo(IntLeftEither.ofLeft(1000).hashCode());
+        assertThat(LongLeftEither.ofLeft(1000L)).isEqualTo(LongLeftEither.ofLeft(1000L));
+        assertThat(DoubleLeftEither.ofLeft(0.5)).isEqualTo(DoubleLeftEither.ofLeft(0.5));
+        assertThat(DoubleLeftEither.ofLeft(0.5)).isNotEqualTo(DoubleLeftEither.ofLeft(0.25));
+    }
+
+    @Test
+    public void rightEquals() {
+        assertThat(IntLeftEither.ofRight(eventB)).isEqualTo(IntLeftEither.ofRight(eventB));
+    }
+
+    @Test
+    public void genericJoinBoxesLeft() {
+        Either<Integer, EventB> left = IntLeftEither.ofLeft(7);
+
+        int result = left.join(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value;
+            }
+        }, new Function<EventB, Integer>() {
+            @Override
+            public Integer apply(EventB value) {
+                return 0;
+            }
+        });
+
+        assertThat(result).isEqualTo(7);
+    }
+}
@@ -0,0 +1,154 @@
+package net.jokubasdargis.rxeither;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Consumer;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+public final class RxEitherDeadlineTest {
+
+    private final TestScheduler testScheduler = new TestScheduler();
+
+    @Test
+    public void fromWithDeadlineEmitsMarkerAndDisposesSides() {
+        HashedTimerWheel wheel = HashedTimerWheel.manual();
+        PublishSubject<Integer> left = PublishSubject.create();
+        PublishSubject<String> right = PublishSubject.create();
+        TestObserver<Either<Integer, String>> observer =
+                fromWithDeadline(left, right, 20, TimeoutPolicy.left(-1), wheel).test();
+
+        left.onNext(1);
+        wheel.advanceTimeBy(TimeUnit.MILLISECONDS.toNanos(10));
+
+        observer.assertValue(Either.<Integer, String>left(1)).assertNotTerminated();
+
+        wheel.advanceTimeBy(TimeUnit.MILLISECONDS.toNanos(20));
+
+        observer.assertResult(Either.<Integer, String>left(1), Either.<Integer, String>left(-1));
+        assertThat(left.hasObservers()).isFalse();
+        assertThat(right.hasObservers()).isFalse();
+        assertThat(wheel.pending()).isEqualTo(0);
+    }
+
+    @Test
+    public void fromWithDeadlineEmitsOutcomeOnScheduler() {
+        HashedTimerWheel wheel = HashedTimerWheel.manual();
+        PublishSubject<Integer> left = PublishSubject.create();
+        TestObserver<Either<Integer, String>> observer = fromWithDeadline(left,
+                Observable.<String>never(), 20, TimeoutPolicy.left(-1), wheel, testScheduler)
+                .test();
+
+        wheel.advanceTimeBy(TimeUnit.MILLISECONDS.toNanos(30));
+        left.onNext(1);
+
+        observer.assertNoValues().assertNotTerminated();
+        assertThat(wheel.pending()).isEqualTo(0);
+
+        testScheduler.triggerActions();
+
+        observer.assertResult(Either.<Integer, String>left(-1));
+        assertThat(left.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void fromWithDeadlineDisposedInOnSubscribeSchedulesNothing() {
+        HashedTimerWheel wheel = HashedTimerWheel.manual();
+        TestObserver<Either<Integer, String>> observer = new TestObserver<>();
+        observer.dispose();
+
+        fromWithDeadline(Observable.<Integer>never(), Observable.<String>never(), 20,
+                TimeoutPolicy.<Integer>error(), wheel).subscribe(observer);
+
+        assertThat(wheel.pending()).isEqualTo(0);
+        wheel.advanceTimeBy(TimeUnit.MILLISECONDS.toNanos(30));
+        observer.assertEmpty();
+    }
+
+    @Test
+    public void fromWithDeadlineErrors() {
+        RxEither.fromWithDeadline(Observable.<Integer>never(), Observable.<String>never(),
+                20, TimeUnit.MILLISECONDS, TimeoutPolicy.<Integer>error())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertFailure(TimeoutException.class);
+    }
+
+    @Test
+    public void fromWithDeadlineCancelledByRight() {
+        HashedTimerWheel wheel = HashedTimerWheel.manual();
+        PublishSubject<String> right = PublishSubject.create();
+        TestObserver<Either<Integer, String>> observer = fromWithDeadline(
+                Observable.<Integer>never(), right, 20, TimeoutPolicy.<Integer>error(), wheel)
+                .test();
+
+        right.onNext("a");
+        wheel.advanceTimeBy(TimeUnit.MILLISECONDS.toNanos(100));
+
+        observer.assertValue(Either.<Integer, String>right("a")).assertNotTerminated();
+        assertThat(right.hasObservers()).isTrue();
+        assertThat(wheel.pending()).isEqualTo(0);
+    }
+
+    @Test
+    public void timerWheelSurvivesFatalErrorOfTimeout() {
+        final List<Object> events = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable e) {
+                events.add(e);
+            }
+        });
+        try {
+            HashedTimerWheel wheel = HashedTimerWheel.manual();
+            final LinkageError error = new LinkageError();
+            wheel.schedule(new HashedTimerWheel.Timeout() {
+                @Override
+                void expire() {
+                    throw error;
+                }
+            }, TimeUnit.MILLISECONDS.toNanos(10));
+            wheel.schedule(new HashedTimerWheel.Timeout() {
+                @Override
+                void expire() {
+                    events.add("expired");
+                }
+            }, TimeUnit.MILLISECONDS.toNanos(20));
+
+            wheel.advanceTimeBy(TimeUnit.MILLISECONDS.toNanos(30));
+
+            assertThat(events).hasSize(2);
+            assertThat(((Throwable) events.get(0)).getCause()).isSameAs(error);
+            assertThat(events.get(1)).isEqualTo("expired");
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    private static <L, R> Observable<Either<L, R>> fromWithDeadline(Observable<L> left,
+            Observable<R> right, long timeoutMillis, TimeoutPolicy<L> policy,
+            HashedTimerWheel wheel) {
+        return fromWithDeadline(left, right, timeoutMillis, policy, wheel,
+                Schedulers.trampoline());
+    }
+
+    private static <L, R> Observable<Either<L, R>> fromWithDeadline(Observable<L> left,
+            Observable<R> right, long timeoutMillis, TimeoutPolicy<L> policy,
+            HashedTimerWheel wheel, Scheduler scheduler) {
+        return new ObservableEitherDeadline<>(
+                new ObservableEither<>(left, right, EitherFactory.<L, R>instance()),
+                TimeUnit.MILLISECONDS.toNanos(timeoutMillis), policy, wheel, scheduler);
+    }
+}
@@ -1,19 +1,48 @@
 package net.jokubasdargis.rxeither;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jokubasdargis.rxeither.functions.IntConsumer;
+import net.jokubasdargis.rxeither.functions.LongConsumer;
+import net.jokubasdargis.rxeither.functions.ToLongFunction;
 import org.junit.Test;
 
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
 import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.functions.Action;
 import io.reactivex.functions.Consumer;
 import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.Functions;
+import io.reactivex.internal.fuseable.QueueDisposable;
 import io.reactivex.observers.TestObserver;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.Schedulers;
 import io.reactivex.schedulers.TestScheduler;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
+import io.reactivex.subscribers.TestSubscriber;
 
 public final class RxEitherTest {
 
@@ -23,6 +52,8 @@ public final class RxEitherTest {
     private final TestScheduler testScheduler = new TestScheduler();
     private final Subject<EventA> eventASubject = PublishSubject.create();
     private final Subject<EventB> eventBSubject = PublishSubject.create();
+    private final PublishProcessor<EventA> eventAProcessor = PublishProcessor.create();
+    private final PublishProcessor<EventB> eventBProcessor = PublishProcessor.create();
 
     @Test
     public void singleLeft() {
@@ -65,6 +96,924 @@ public final class RxEitherTest {
         subscriber.assertNoValues();
     }
 
+    @Test
+    public void completeLeftDisposesRight() {
+        Observable<Either<EventA, EventB>> either = RxEither.from(eventASubject, eventBSubject);
+        either.subscribe(subscriber);
+
+        eventASubject.onComplete();
+
+        subscriber.assertComplete();
+        subscriber.assertNoValues();
+        assertThat(eventBSubject.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void disposeDisposesBothSides() {
+        Observable<Either<EventA, EventB>> either = RxEither.from(eventASubject, eventBSubject);
+        either.subscribe(subscriber);
+
+        subscriber.dispose();
+
+        assertThat(eventASubject.hasObservers()).isFalse();
+        assertThat(eventBSubject.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void reentrantEmissionIsSerialized() {
+        final AtomicInteger active = new AtomicInteger();
+        final List<Either<EventA, EventB>> values = new ArrayList<>();
+        Observable<Either<EventA, EventB>> either = RxEither.from(eventASubject, eventBSubject);
+        either.subscribe(new Consumer<Either<EventA, EventB>>() {
+            @Override
+            public void accept(Either<EventA, EventB> value) {
+                assertThat(active.getAndIncrement()).isEqualTo(0);
+                values.add(value);
+                if (value.isLeft()) {
+                    eventBSubject.onNext(eventB);
+                }
+                active.decrementAndGet();
+            }
+        });
+
+        eventASubject.onNext(eventA);
+
+        assertThat(values).containsExactly(Either.<EventA, EventB>left(eventA),
+                Either.<EventA, EventB>right(eventB)).inOrder();
+    }
+
+    @Test
+    public void concurrentEmissionIsSerialized() throws Exception {
+        final int count = 100000;
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        TestObserver<Either<EventA, EventB>> subscriber = RxEither
+                .from(eventASubject, eventBSubject)
+                .doOnNext(new Consumer<Either<EventA, EventB>>() {
+                    @Override
+                    public void accept(Either<EventA, EventB> value) {
+                        if (active.getAndIncrement() != 0) {
+                            overlaps.incrementAndGet();
+                        }
+                        active.decrementAndGet();
+                    }
+                })
+                .test();
+
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                awaitQuietly(start);
+                for (int i = 0; i < count; i++) {
+                    eventBSubject.onNext(eventB);
+                }
+            }
+        });
+        thread.start();
+        start.countDown();
+        for (int i = 0; i < count; i++) {
+            eventASubject.onNext(eventA);
+        }
+        thread.join();
+        eventASubject.onComplete();
+
+        subscriber.assertComplete();
+        subscriber.assertValueCount(2 * count);
+        assertThat(overlaps.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void fromConflatedKeepsLatestPendingLeft() {
+        final Subject<Integer> left = PublishSubject.create();
+        final Subject<String> right = PublishSubject.create();
+        final List<Either<Integer, String>> values = new ArrayList<>();
+        RxEither.fromConflated(left, right).subscribe(new Consumer<Either<Integer, String>>() {
+            @Override
+            public void accept(Either<Integer, String> value) {
+                values.add(value);
+                if (values.size() == 1) {
+                    left.onNext(1);
+                    right.onNext("a");
+                    left.onNext(2);
+                    right.onNext("b");
+                    left.onNext(3);
+                }
+            }
+        });
+
+        left.onNext(0);
+
+        assertThat(values).containsExactly(Either.<Integer, String>left(0),
+                Either.<Integer, String>left(3), Either.<Integer, String>right("a"),
+                Either.<Integer, String>right("b")).inOrder();
+    }
+
+    @Test
+    public void fromConflatedSamplesLeftOnScheduler() {
+        Subject<Integer> left = PublishSubject.create();
+        Subject<String> right = PublishSubject.create();
+        TestObserver<Either<Integer, String>> subscriber = RxEither
+                .fromConflated(left, right, 1, TimeUnit.SECONDS, testScheduler)
+                .test();
+
+        left.onNext(1);
+        left.onNext(2);
+        right.onNext("a");
+        subscriber.assertValue(Either.<Integer, String>right("a"));
+
+        testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        left.onNext(3);
+        left.onComplete();
+
+        subscriber.assertResult(Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2), Either.<Integer, String>left(3));
+    }
+
+    @Test
+    public void fromSubscribesConcurrentlyOnScheduler() {
+        final CountDownLatch rightSubscribed = new CountDownLatch(1);
+        Observable<Integer> left = Observable.fromCallable(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return rightSubscribed.await(5, TimeUnit.SECONDS) ? 1 : -1;
+            }
+        });
+        Observable<String> right = Observable.<String>never()
+                .doOnSubscribe(new Consumer<Disposable>() {
+                    @Override
+                    public void accept(Disposable d) {
+                        rightSubscribed.countDown();
+                    }
+                });
+
+        RxEither.from(left, right, Schedulers.io())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(Either.<Integer, String>left(1));
+    }
+
+    @Test
+    public void fromOnSchedulerDisposedBeforeSubscribing() {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        Consumer<Disposable> onSubscribe = new Consumer<Disposable>() {
+            @Override
+            public void accept(Disposable d) {
+                subscriptions.incrementAndGet();
+            }
+        };
+
+        RxEither.from(Observable.just(1).doOnSubscribe(onSubscribe),
+                Observable.just("a").doOnSubscribe(onSubscribe), testScheduler)
+                .test()
+                .dispose();
+        testScheduler.triggerActions();
+
+        assertThat(subscriptions.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void fromSingleCompletesWithResultAndDisposesProgress() {
+        PublishSubject<Integer> progress = PublishSubject.create();
+        PublishSubject<String> result = PublishSubject.create();
+        TestObserver<Either<Integer, String>> observer =
+                RxEither.fromSingle(progress, result.singleOrError()).test();
+
+        progress.onNext(50);
+        result.onNext("a");
+        result.onComplete();
+
+        observer.assertResult(Either.<Integer, String>left(50), Either.<Integer, String>right("a"));
+        assertThat(progress.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void fromMaybeCompletesOnEmptyResult() {
+        RxEither.fromMaybe(Observable.just(1), Maybe.<String>empty())
+                .test()
+                .assertResult(Either.<Integer, String>left(1));
+    }
+
+    @Test
+    public void fromSingleView() {
+        final List<Integer> progress = new ArrayList<>();
+
+        RxEither.fromSingle(Observable.just(0, 50), Single.just("a"), new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                progress.add(value);
+            }
+        }).test().assertResult("a");
+        assertThat(progress).containsExactly(0, 50).inOrder();
+    }
+
+    @Test
+    public void keyedRoutesPerKey() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar());
+        TestObserver<Either<String, String>> a = keyed.observe('a').test();
+        TestObserver<Either<String, String>> b = keyed.observe('b').test();
+        keyed.connect();
+
+        jobs.onNext(Either.<String, String>left("a1"));
+        jobs.onNext(Either.<String, String>left("b1"));
+        jobs.onNext(Either.<String, String>right("a!"));
+
+        a.assertResult(Either.<String, String>left("a1"), Either.<String, String>right("a!"));
+        b.assertValue(Either.<String, String>left("b1")).assertNotTerminated();
+    }
+
+    @Test
+    public void keyedReplaysLatestLeftAndRetainedRight() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar(), 1);
+        keyed.connect();
+
+        jobs.onNext(Either.<String, String>left("a1"));
+        jobs.onNext(Either.<String, String>left("a2"));
+        TestObserver<Either<String, String>> late = keyed.observe('a').test();
+        jobs.onNext(Either.<String, String>right("a!"));
+
+        late.assertResult(Either.<String, String>left("a2"), Either.<String, String>right("a!"));
+        keyed.observe('a').test().assertResult(Either.<String, String>right("a!"));
+    }
+
+    @Test
+    public void keyedRetainsRightWithoutObserversAndEvictsOldest() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar(), 1);
+        keyed.connect();
+
+        jobs.onNext(Either.<String, String>right("a!"));
+        keyed.observe('a').test().assertResult(Either.<String, String>right("a!"));
+        jobs.onNext(Either.<String, String>right("b!"));
+        assertThat(keyed.size()).isEqualTo(1);
+
+        TestObserver<Either<String, String>> a = keyed.observe('a').test();
+        a.assertEmpty();
+        jobs.onNext(Either.<String, String>left("a1"));
+        a.assertValue(Either.<String, String>left("a1")).assertNotTerminated();
+        keyed.observe('b').test().assertResult(Either.<String, String>right("b!"));
+    }
+
+    @Test
+    public void keyedForgetsFinishedKeysByDefault() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar());
+        keyed.connect();
+
+        jobs.onNext(Either.<String, String>right("a!"));
+
+        assertThat(keyed.size()).isEqualTo(0);
+        keyed.observe('a').test().assertEmpty();
+    }
+
+    @Test
+    public void keyedKeepsRetainedRightOnLateLeftAndForwardsInstances() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar(), 1);
+        keyed.connect();
+        Either<String, String> left = Either.left("a1");
+        Either<String, String> right = Either.right("a!");
+
+        TestObserver<Either<String, String>> a = keyed.observe('a').test();
+        jobs.onNext(left);
+        jobs.onNext(right);
+        jobs.onNext(Either.<String, String>left("a2"));
+
+        assertThat(a.values().get(0)).isSameAs(left);
+        assertThat(a.values().get(1)).isSameAs(right);
+        keyed.observe('a').test().assertResult(right);
+    }
+
+    @Test
+    public void keyedCopiesFlyweightValues() {
+        PublishSubject<String> left = PublishSubject.create();
+        PublishSubject<String> right = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(RxEither.fromFlyweight(left, right), firstChar(), firstChar());
+        keyed.connect();
+
+        left.onNext("a1");
+        left.onNext("b1");
+
+        keyed.observe('a').test().assertValue(Either.<String, String>left("a1"));
+    }
+
+    @Test
+    public void keyedForgetsKeyOnceWaitingObserversDispose() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar(), 0);
+        keyed.connect();
+
+        TestObserver<Either<String, String>> first = keyed.observe('a').test();
+        TestObserver<Either<String, String>> second = keyed.observe('a').test();
+        assertThat(keyed.size()).isEqualTo(1);
+        first.dispose();
+        assertThat(keyed.size()).isEqualTo(1);
+        second.dispose();
+        assertThat(keyed.size()).isEqualTo(0);
+
+        TestObserver<Either<String, String>> again = keyed.observe('a').test();
+        jobs.onNext(Either.<String, String>right("a!"));
+        again.assertResult(Either.<String, String>right("a!"));
+        assertThat(keyed.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void keyedCompletesViewsOnDisconnect() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar(), 1);
+        TestObserver<Either<String, String>> a = keyed.observe('a').test();
+        TestObserver<Either<String, String>> b = keyed.observe('b').test();
+        Disposable connection = keyed.connect();
+
+        jobs.onNext(Either.<String, String>left("a1"));
+        jobs.onNext(Either.<String, String>right("c!"));
+        connection.dispose();
+
+        assertThat(jobs.hasObservers()).isFalse();
+        a.assertResult(Either.<String, String>left("a1"));
+        b.assertResult();
+        keyed.observe('a').test().assertResult();
+        keyed.observe('c').test().assertResult(Either.<String, String>right("c!"));
+        assertThat(keyed.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void keyedPropagatesError() {
+        PublishSubject<Either<String, String>> jobs = PublishSubject.create();
+        KeyedEither<Character, String, String> keyed =
+                RxEither.keyed(jobs, firstChar(), firstChar());
+        TestObserver<Either<String, String>> a = keyed.observe('a').test();
+        keyed.connect();
+
+        jobs.onError(new IllegalStateException());
+
+        a.assertFailure(IllegalStateException.class);
+        keyed.observe('b').test().assertFailure(IllegalStateException.class);
+    }
+
+    @Test
+    public void boundedLeftDropsOldest() {
+        assertThat(fromBounded(BackpressureOverflowStrategy.DROP_OLDEST)).containsExactly(
+                Either.<Integer, String>left(0), Either.<Integer, String>left(3),
+                Either.<Integer, String>right("a"), Either.<Integer, String>left(4),
+                Either.<Integer, String>right("b"), "overflow", "overflow").inOrder();
+    }
+
+    @Test
+    public void boundedLeftDropsLatest() {
+        assertThat(fromBounded(BackpressureOverflowStrategy.DROP_LATEST)).containsExactly(
+                Either.<Integer, String>left(0), Either.<Integer, String>left(1),
+                Either.<Integer, String>right("a"), Either.<Integer, String>left(2),
+                Either.<Integer, String>right("b"), "overflow", "overflow").inOrder();
+    }
+
+    @Test
+    public void boundedLeftErrors() {
+        assertThat(fromBounded(BackpressureOverflowStrategy.ERROR)).containsExactly(
+                Either.<Integer, String>left(0), MissingBackpressureException.class,
+                "overflow").inOrder();
+    }
+
+    @Test
+    public void boundedLeftDropsOldestAcrossThreads() {
+        final int count = 100000;
+        final AtomicInteger overflows = new AtomicInteger();
+        final List<Integer> lefts = new ArrayList<>();
+        Observable<Integer> left = Observable.range(0, count).subscribeOn(Schedulers.single());
+        Observable<String> right = Observable.just("a").repeat(count)
+                .concatWith(Observable.<String>never())
+                .subscribeOn(Schedulers.computation());
+        RxEither.from(left, right, 4, new Action() {
+            @Override
+            public void run() {
+                overflows.incrementAndGet();
+            }
+        }, BackpressureOverflowStrategy.DROP_OLDEST)
+                .blockingForEach(new Consumer<Either<Integer, String>>() {
+                    @Override
+                    public void accept(Either<Integer, String> value) {
+                        if (value.isLeft()) {
+                            lefts.add((Integer) value.value());
+                        }
+                    }
+                });
+
+        for (int i = 1; i < lefts.size(); i++) {
+            assertThat(lefts.get(i)).isGreaterThan(lefts.get(i - 1));
+        }
+        assertThat(lefts.size() + overflows.get()).isEqualTo(count);
+    }
+
+    /**
+     * Emits {@code 1, a, 2, 3, b} from within the delivery of {@code 0} through a merge buffering
+     * two left values, recording every value, overflow and error class.
+     */
+    private static List<Object> fromBounded(BackpressureOverflowStrategy strategy) {
+        final Subject<Integer> left = PublishSubject.create();
+        final Subject<String> right = PublishSubject.create();
+        final List<Object> events = new ArrayList<>();
+        final List<Object> overflows = new ArrayList<>();
+        RxEither.from(left, right, 2, new Action() {
+            @Override
+            public void run() {
+                overflows.add("overflow");
+            }
+        }, strategy).subscribe(new Consumer<Either<Integer, String>>() {
+            @Override
+            public void accept(Either<Integer, String> value) {
+                events.add(value);
+                if (events.size() == 1) {
+                    left.onNext(1);
+                    right.onNext("a");
+                    left.onNext(2);
+                    left.onNext(3);
+                    right.onNext("b");
+                    left.onNext(4);
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable e) {
+                events.add(e.getClass());
+            }
+        });
+
+        left.onNext(0);
+
+        events.addAll(overflows);
+        return events;
+    }
+
+    @Test
+    public void rightPriorityDrainsRightQueueFirst() {
+        final Subject<Integer> left = PublishSubject.create();
+        final Subject<String> right = PublishSubject.create();
+        final List<Either<Integer, String>> values = new ArrayList<>();
+        RxEither.from(left, right, Priority.RIGHT).subscribe(
+                new Consumer<Either<Integer, String>>() {
+                    @Override
+                    public void accept(Either<Integer, String> value) {
+                        values.add(value);
+                        if (values.size() == 1) {
+                            left.onNext(1);
+                            left.onNext(2);
+                            right.onNext("a");
+                            right.onNext("b");
+                        }
+                    }
+                });
+
+        left.onNext(0);
+
+        assertThat(values).containsExactly(Either.<Integer, String>left(0),
+                Either.<Integer, String>right("a"), Either.<Integer, String>right("b"),
+                Either.<Integer, String>left(1), Either.<Integer, String>left(2)).inOrder();
+    }
+
+    @Test
+    public void bufferedSplitsRunsBySideAndSize() {
+        Subject<Integer> left = PublishSubject.create();
+        Subject<String> right = PublishSubject.create();
+        TestObserver<Either<List<Integer>, List<String>>> subscriber =
+                RxEither.buffered(left, right, 2).test();
+
+        left.onNext(1);
+        left.onNext(2);
+        left.onNext(3);
+        right.onNext("a");
+        left.onNext(4);
+        right.onComplete();
+
+        subscriber.assertResult(Either.<List<Integer>, List<String>>left(Arrays.asList(1, 2)),
+                Either.<List<Integer>, List<String>>left(Arrays.asList(3)),
+                Either.<List<Integer>, List<String>>right(Arrays.asList("a")),
+                Either.<List<Integer>, List<String>>left(Arrays.asList(4)));
+    }
+
+    @Test
+    public void bufferedEmitsRunAfterMaxTime() {
+        Subject<Integer> left = PublishSubject.create();
+        Subject<String> right = PublishSubject.create();
+        TestObserver<Either<List<Integer>, List<String>>> subscriber = RxEither
+                .buffered(left, right, 10, 1, TimeUnit.SECONDS, testScheduler)
+                .test();
+
+        left.onNext(1);
+        testScheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+        left.onNext(2);
+        subscriber.assertNoValues();
+
+        testScheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+        subscriber.assertValue(Either.<List<Integer>, List<String>>left(Arrays.asList(1, 2)));
+
+        right.onNext("a");
+        right.onNext("b");
+        testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        subscriber.assertValues(Either.<List<Integer>, List<String>>left(Arrays.asList(1, 2)),
+                Either.<List<Integer>, List<String>>right(Arrays.asList("a", "b")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferedRejectsNonPositiveMaxTime() {
+        RxEither.buffered(Observable.just(1), Observable.just("a"), 10, 0, TimeUnit.SECONDS,
+                testScheduler);
+    }
+
+    @Test
+    public void bufferedErrorDropsOpenRunAndDisposesOtherSource() {
+        Subject<Integer> left = PublishSubject.create();
+        PublishSubject<String> right = PublishSubject.create();
+        TestObserver<Either<List<Integer>, List<String>>> subscriber = RxEither
+                .buffered(left, right, 10, 1, TimeUnit.SECONDS, testScheduler)
+                .test();
+        IllegalStateException error = new IllegalStateException();
+
+        right.onNext("a");
+        left.onError(error);
+        testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        subscriber.assertFailure(IllegalStateException.class);
+        assertThat(right.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void fromFlyweightReusesInstanceUntilCopied() {
+        final List<Either<Integer, String>> emitted = new ArrayList<>();
+        final List<Either<Integer, String>> copies = new ArrayList<>();
+        RxEither.fromFlyweight(Observable.just(1, 2), Observable.just("a"))
+                .subscribe(new Consumer<Either<Integer, String>>() {
+                    @Override
+                    public void accept(Either<Integer, String> value) {
+                        emitted.add(value);
+                        copies.add(value.copy());
+                    }
+                });
+
+        assertThat(emitted).hasSize(2);
+        assertThat(emitted.get(1)).isSameAs(emitted.get(0));
+        assertThat(copies).containsExactly(Either.<Integer, String>left(1),
+                Either.<Integer, String>left(2)).inOrder();
+    }
+
+    @Test
+    public void fromFlyweightWrapsQueuedValues() {
+        final Subject<Integer> left = PublishSubject.create();
+        final Subject<String> right = PublishSubject.create();
+        final List<Either<Integer, String>> values = new ArrayList<>();
+        RxEither.fromFlyweight(left, right).subscribe(new Consumer<Either<Integer, String>>() {
+            @Override
+            public void accept(Either<Integer, String> value) {
+                values.add(value);
+                if (values.size() == 1) {
+                    right.onNext("a");
+                    left.onNext(1);
+                }
+            }
+        });
+
+        left.onNext(0);
+
+        assertThat(values).containsExactly(values.get(0), Either.<Integer, String>left(1),
+                Either.<Integer, String>right("a")).inOrder();
+        assertThat(values.get(0).copy()).isEqualTo(Either.<Integer, String>left(0));
+    }
+
+    @Test
+    public void metricsListenerSeesQueuedAndConflatedValues() {
+        final List<String> events = new ArrayList<>();
+        RxEither.setMetricsListener(new EitherMetrics() {
+            @Override
+            public void onLeft(long waitNanos) {
+                events.add(waitNanos == 0 ? "left" : "queued left");
+            }
+
+            @Override
+            public void onRight(long waitNanos) {
+                events.add(waitNanos == 0 ? "right" : "queued right");
+            }
+
+            @Override
+            public void onQueueHighWaterMark(boolean left, int size) {
+                events.add((left ? "left" : "right") + " queue " + size);
+            }
+
+            @Override
+            public void onConflated() {
+                events.add("conflated");
+            }
+
+            @Override
+            public void onComplete() {
+                events.add("complete");
+            }
+
+            @Override
+            public void onDispose() {
+                events.add("dispose");
+            }
+        });
+        try {
+            final Subject<Integer> left = PublishSubject.create();
+            final Subject<String> right = PublishSubject.create();
+            RxEither.fromConflated(left, right).subscribe(new Consumer<Either<Integer, String>>() {
+                @Override
+                public void accept(Either<Integer, String> value) throws Exception {
+                    if (value.isLeft() && value.join(Functions.<Integer>identity(), null) == 0) {
+                        left.onNext(1);
+                        left.onNext(2);
+                        right.onNext("a");
+                        right.onNext("b");
+                        Thread.sleep(1);
+                    }
+                }
+            });
+
+            left.onNext(0);
+            right.onComplete();
+
+            assertThat(events).containsExactly("conflated", "right queue 1", "right queue 2",
+                    "left", "queued left", "queued right", "queued right", "complete").inOrder();
+
+            events.clear();
+            RxEither.from(eventASubject, eventBSubject).test().dispose();
+
+            assertThat(events).containsExactly("dispose");
+        } finally {
+            RxEither.setMetricsListener(null);
+        }
+    }
+
+    @Test
+    public void metricsListenerSeesFlowableWaitAndDispose() throws InterruptedException {
+        final List<String> events = new ArrayList<>();
+        final List<Long> waits = new ArrayList<>();
+        RxEither.setMetricsListener(new EitherMetrics() {
+            @Override
+            public void onLeft(long waitNanos) {
+                events.add("left");
+                waits.add(waitNanos);
+            }
+
+            @Override
+            public void onRight(long waitNanos) {
+                events.add("right");
+                waits.add(waitNanos);
+            }
+
+            @Override
+            public void onQueueHighWaterMark(boolean left, int size) {
+                events.add("queue");
+            }
+
+            @Override
+            public void onComplete() {
+                events.add("complete");
+            }
+
+            @Override
+            public void onDispose() {
+                events.add("dispose");
+            }
+        });
+        try {
+            PublishProcessor<Integer> left = PublishProcessor.create();
+            PublishProcessor<String> right = PublishProcessor.create();
+            TestSubscriber<Either<Integer, String>> subscriber =
+                    RxEither.from(left, right).test(0);
+
+            left.onNext(1);
+            right.onNext("a");
+            Thread.sleep(1);
+            subscriber.request(2);
+            left.onComplete();
+
+            subscriber.assertResult(Either.<Integer, String>left(1),
+                    Either.<Integer, String>right("a"));
+            assertThat(events).containsExactly("left", "right", "complete").inOrder();
+            for (long wait : waits) {
+                assertThat(wait).isAtLeast(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+
+            events.clear();
+            RxEither.from(PublishProcessor.<Integer>create(), PublishProcessor.<String>create())
+                    .test()
+                    .cancel();
+
+            assertThat(events).containsExactly("dispose");
+        } finally {
+            RxEither.setMetricsListener(null);
+        }
+    }
+
+    @Test
+    public void cacheLatestReplaysLatestLeftAndRightsInOrder() {
+        Subject<Either<Integer, String>> source = PublishSubject.create();
+        Observable<Either<Integer, String>> cached = RxEither.cacheLatest(source);
+        TestObserver<Either<Integer, String>> first = cached.test();
+
+        source.onNext(Either.<Integer, String>left(1));
+        source.onNext(Either.<Integer, String>right("a"));
+        source.onNext(Either.<Integer, String>left(2));
+        source.onNext(Either.<Integer, String>left(3));
+        source.onNext(Either.<Integer, String>right("b"));
+        TestObserver<Either<Integer, String>> second = cached.test();
+        source.onNext(Either.<Integer, String>left(4));
+        source.onComplete();
+
+        first.assertValueCount(6);
+        first.assertComplete();
+        second.assertResult(Either.<Integer, String>right("a"), Either.<Integer, String>left(3),
+                Either.<Integer, String>right("b"), Either.<Integer, String>left(4));
+        cached.test().assertResult(Either.<Integer, String>right("a"),
+                Either.<Integer, String>right("b"), Either.<Integer, String>left(4));
+    }
+
+    @Test
+    public void cacheLatestKeepsLastRights() {
+        Subject<Either<Integer, String>> source = PublishSubject.create();
+        Observable<Either<Integer, String>> cached = RxEither.cacheLatest(source, 1);
+        cached.test();
+
+        source.onNext(Either.<Integer, String>right("a"));
+        source.onNext(Either.<Integer, String>left(1));
+        source.onNext(Either.<Integer, String>right("b"));
+
+        cached.test().assertValues(Either.<Integer, String>left(1),
+                Either.<Integer, String>right("b"));
+    }
+
+    @Test
+    public void cacheLatestDisconnectsWhenAllObserversDispose() {
+        Subject<Either<Integer, String>> source = PublishSubject.create();
+        Observable<Either<Integer, String>> cached = RxEither.cacheLatest(source);
+        TestObserver<Either<Integer, String>> first = cached.test();
+        TestObserver<Either<Integer, String>> second = cached.test();
+        source.onNext(Either.<Integer, String>right("a"));
+
+        first.dispose();
+        assertThat(source.hasObservers()).isTrue();
+        second.dispose();
+        assertThat(source.hasObservers()).isFalse();
+
+        TestObserver<Either<Integer, String>> third = cached.test();
+        assertThat(source.hasObservers()).isTrue();
+        third.assertNoValues();
+    }
+
+    @Test
+    public void fromLazyOnlyComputesRightsWhichAreUsed() {
+        final AtomicInteger calls = new AtomicInteger();
+        Callable<String> right = new Callable<String>() {
+            @Override
+            public String call() {
+                calls.incrementAndGet();
+                return "a";
+            }
+        };
+        Observable<Either<Integer, String>> either =
+                RxEither.fromLazy(Observable.<Integer>never().startWith(1),
+                        Observable.just(right, right));
+
+        RxEither.filterLeft(either).test().assertValue(1);
+        assertThat(calls.get()).isEqualTo(0);
+
+        RxEither.filterRight(either).test().assertResult("a", "a");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void fromLazyErrorReachesOnError() {
+        final Exception error = new Exception();
+        Observable<Either<Integer, String>> either = RxEither.fromLazy(Observable.<Integer>never(),
+                Observable.just(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        throw error;
+                    }
+                }));
+
+        TestObserver<String> subscriber = RxEither.filterRight(either).test();
+
+        subscriber.assertError(RuntimeException.class);
+        assertThat(subscriber.errors().get(0).getCause()).isSameAs(error);
+    }
+
+    @Test
+    public void fromThreeTagsSourceIndex() throws Exception {
+        Subject<Integer> first = PublishSubject.create();
+        Subject<String> second = PublishSubject.create();
+        Subject<Long> third = PublishSubject.create();
+        TestObserver<Either3<Integer, String, Long>> subscriber =
+                RxEither.from(first, second, third).test();
+
+        second.onNext("a");
+        third.onNext(2L);
+        first.onNext(1);
+        third.onComplete();
+
+        subscriber.assertResult(Either3.<Integer, String, Long>second("a"),
+                Either3.<Integer, String, Long>third(2L), Either3.<Integer, String, Long>first(1));
+        assertThat(first.hasObservers()).isFalse();
+        assertThat(second.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void fromThreeReportsMetricsWithSourceIndex() {
+        final List<String> events = new ArrayList<>();
+        RxEither.setMetricsListener(new EitherMetrics() {
+            @Override
+            public void onValue(int index, long waitNanos) {
+                events.add((waitNanos == 0 ? "value " : "queued value ") + index);
+            }
+
+            @Override
+            public void onQueueHighWaterMark(int index, int size) {
+                events.add("queue " + index + " " + size);
+            }
+
+            @Override
+            public void onComplete() {
+                events.add("complete");
+            }
+        });
+        try {
+            final Subject<Integer> first = PublishSubject.create();
+            final Subject<String> second = PublishSubject.create();
+            Subject<Long> third = PublishSubject.create();
+            RxEither.from(first, second, third).subscribe(
+                    new Consumer<Either3<Integer, String, Long>>() {
+                        @Override
+                        public void accept(Either3<Integer, String, Long> value)
+                                throws Exception {
+                            if (value.index() == 0) {
+                                second.onNext("a");
+                                Thread.sleep(1);
+                            }
+                        }
+                    });
+
+            first.onNext(1);
+            third.onComplete();
+
+            assertThat(events).containsExactly("queue 1 1", "value 0", "queued value 1",
+                    "complete").inOrder();
+        } finally {
+            RxEither.setMetricsListener(null);
+        }
+    }
+
+    @Test
+    public void filterLaterTypesOfEitherSix() {
+        Observable<Either6<Integer, Integer, Integer, String, Long, Boolean>> source =
+                Observable.just(Either6.<Integer, Integer, Integer, String, Long, Boolean>fourth("a"),
+                        Either6.<Integer, Integer, Integer, String, Long, Boolean>fifth(2L),
+                        Either6.<Integer, Integer, Integer, String, Long, Boolean>sixth(true));
+
+        RxEither.filterFourth(source).test().assertResult("a");
+        RxEither.filterFifth(source).test().assertResult(2L);
+        RxEither.filterSixth(source).test().assertResult(true);
+    }
+
+    @Test
+    public void filterThirdAndJoinLazyN() throws Exception {
+        Observable<Either3<Integer, String, Long>> source = Observable.just(
+                Either3.<Integer, String, Long>first(1), Either3.<Integer, String, Long>third(2L),
+                Either3.<Integer, String, Long>second("a"));
+
+        RxEither.filterThird(source).test().assertResult(2L);
+        source.map(RxEither.joinLazy(
+                new Function<Integer, String>() {
+                    @Override
+                    public String apply(Integer value) {
+                        return "first " + value;
+                    }
+                },
+                new Function<String, String>() {
+                    @Override
+                    public String apply(String value) {
+                        return "second " + value;
+                    }
+                },
+                new Function<Long, String>() {
+                    @Override
+                    public String apply(Long value) {
+                        return "third " + value;
+                    }
+                }))
+                .test()
+                .assertResult("first 1", "third 2", "second a");
+    }
+
     @Test
     public void filterLeft() {
         TestObserver<EventA> subscriber = TestObserver.create();
@@ -94,6 +1043,587 @@ public final class RxEitherTest {
         subscriber.assertValue(eventB);
     }
 
+    @Test
+    public void filterRightFusesSynchronously() throws Exception {
+        Observable<Either<Integer, String>> source = Observable.fromIterable(Arrays.asList(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2), Either.<Integer, String>right("b")));
+        final List<Object> fused = new ArrayList<>();
+
+        RxEither.filterRight(source).subscribe(new Observer<String>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void onSubscribe(Disposable d) {
+                QueueDisposable<String> qd = (QueueDisposable<String>) d;
+                fused.add(qd.requestFusion(QueueDisposable.ANY | QueueDisposable.BOUNDARY));
+                try {
+                    for (String v = qd.poll(); v != null; v = qd.poll()) {
+                        fused.add(v);
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            }
+
+            @Override
+            public void onNext(String value) {
+                throw new AssertionError("Fused observer should poll");
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                throw new AssertionError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                throw new AssertionError("Fused observer should poll");
+            }
+        });
+
+        assertThat(fused).containsExactly(QueueDisposable.SYNC, "a", "b").inOrder();
+    }
+
+    @Test
+    public void filterLeftAcrossObserveOn() {
+        Observable<Either<Integer, String>> source = Observable.fromIterable(Arrays.asList(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2), Either.<Integer, String>right("b")));
+
+        RxEither.filterLeft(source)
+                .observeOn(Schedulers.single())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(1, 2);
+    }
+
+    @Test
+    public void filterLeftUnwrapsLazyValuesWhereUpstreamIsDrained() {
+        final List<Thread> threads = new ArrayList<>();
+        Callable<Integer> value = new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                threads.add(Thread.currentThread());
+                return 1;
+            }
+        };
+
+        RxEither.filterLeft(Observable.just(Either.<Integer, String>lazyLeft(value),
+                Either.<Integer, String>right("a")).hide())
+                .observeOn(Schedulers.single())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(1);
+        RxEither.filterLeft(Flowable.just(Either.<Integer, String>lazyLeft(value),
+                Either.<Integer, String>right("a")).hide())
+                .observeOn(Schedulers.single())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(1);
+        RxEither.filterLeft(Observable.just(Either.<Integer, String>lazyLeft(value),
+                Either.<Integer, String>right("a")))
+                .observeOn(Schedulers.single())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(1);
+
+        assertThat(threads).hasSize(3);
+        assertThat(threads.subList(0, 2))
+                .containsExactly(Thread.currentThread(), Thread.currentThread());
+        assertThat(threads.get(2)).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void filterRightWithLeftConsumerRefusesBoundaryFusion() {
+        Observable<IntLeftEither<String>> source = Observable.fromIterable(Arrays.asList(
+                IntLeftEither.<String>ofLeft(1), IntLeftEither.<String>ofRight("a")));
+        final List<Integer> modes = new ArrayList<>();
+
+        RxEither.filterRight(source, new IntConsumer() {
+            @Override
+            public void accept(int value) {
+            }
+        }).subscribe(new Observer<String>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void onSubscribe(Disposable d) {
+                QueueDisposable<String> qd = (QueueDisposable<String>) d;
+                modes.add(qd.requestFusion(QueueDisposable.ANY | QueueDisposable.BOUNDARY));
+            }
+
+            @Override
+            public void onNext(String value) {
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                throw new AssertionError(e);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(modes).containsExactly(QueueDisposable.NONE);
+    }
+
+    @Test
+    public void partitionConnectsOnceBothSidesSubscribe() {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Either<EventA, EventB>> either = RxEither.from(eventASubject, eventBSubject)
+                .doOnSubscribe(new Consumer<Disposable>() {
+                    @Override
+                    public void accept(Disposable disposable) {
+                        subscriptions.incrementAndGet();
+                    }
+                });
+        EitherPartition<EventA, EventB> partition = RxEither.partition(either);
+
+        TestObserver<EventA> left = partition.left().test();
+
+        assertThat(subscriptions.get()).isEqualTo(0);
+
+        TestObserver<EventB> right = partition.right().test();
+        eventASubject.onNext(eventA);
+        eventBSubject.onNext(eventB);
+        eventASubject.onComplete();
+
+        assertThat(subscriptions.get()).isEqualTo(1);
+        left.assertResult(eventA);
+        right.assertResult(eventB);
+    }
+
+    @Test
+    public void partitionExplicitConnect() {
+        EitherPartition<EventA, EventB> partition =
+                RxEither.partition(RxEither.from(eventASubject, eventBSubject));
+
+        TestObserver<EventB> right = partition.right().test();
+        Disposable connection = partition.connect();
+        eventASubject.onNext(eventA);
+        eventBSubject.onNext(eventB);
+
+        right.assertValue(eventB);
+        right.assertNotComplete();
+
+        connection.dispose();
+
+        assertThat(eventASubject.hasObservers()).isFalse();
+        assertThat(eventBSubject.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void partitionDisposesUpstreamWhenBothSidesDispose() {
+        EitherPartition<EventA, EventB> partition =
+                RxEither.partition(RxEither.from(eventASubject, eventBSubject));
+
+        TestObserver<EventA> left = partition.left().test();
+        TestObserver<EventB> right = partition.right().test();
+        left.dispose();
+
+        assertThat(eventASubject.hasObservers()).isTrue();
+
+        right.dispose();
+
+        assertThat(eventASubject.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void partitionErrorReachesLateSubscriber() {
+        Throwable error = new Throwable();
+        EitherPartition<EventA, EventB> partition =
+                RxEither.partition(RxEither.from(eventASubject, eventBSubject));
+
+        TestObserver<EventA> left = partition.left().test();
+        partition.connect();
+        eventASubject.onError(error);
+
+        left.assertError(error);
+        partition.right().test().assertError(error);
+    }
+
+    @Test
+    public void partitionSideDisposedInOnSubscribeStaysDisposed() {
+        EitherPartition<EventA, EventB> partition =
+                RxEither.partition(RxEither.from(eventASubject, eventBSubject));
+        TestObserver<EventA> left = new TestObserver<EventA>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                super.onSubscribe(d);
+                dispose();
+            }
+        };
+
+        partition.left().subscribe(left);
+        partition.right().test();
+
+        assertThat(eventASubject.hasObservers()).isFalse();
+
+        partition.connect();
+        eventASubject.onNext(eventA);
+        eventASubject.onComplete();
+
+        left.assertEmpty();
+    }
+
+    @Test
+    public void partitionDoesNotUnwrapValuesOfUnobservedSide() {
+        final AtomicInteger computed = new AtomicInteger();
+        PublishSubject<Either<Integer, String>> source = PublishSubject.create();
+        EitherPartition<Integer, String> partition = RxEither.partition(source);
+
+        TestObserver<String> right = partition.right().test();
+        partition.connect();
+        source.onNext(Either.<Integer, String>lazyLeft(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return computed.incrementAndGet();
+            }
+        }));
+        source.onNext(Either.<Integer, String>right("a"));
+
+        assertThat(computed.get()).isEqualTo(0);
+        right.assertValue("a");
+    }
+
+    @Test
+    public void partitionDropsSignalsAfterUnwrapError() {
+        final List<Throwable> undeliverable = new ArrayList<>();
+        RxJavaPlugins.setErrorHandler(new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable e) {
+                undeliverable.add(e);
+            }
+        });
+        try {
+            final IllegalStateException error = new IllegalStateException();
+            final IllegalArgumentException late = new IllegalArgumentException();
+            Observable<Either<Integer, String>> source = new Observable<Either<Integer, String>>() {
+                @Override
+                protected void subscribeActual(Observer<? super Either<Integer, String>> o) {
+                    o.onSubscribe(Disposables.empty());
+                    o.onNext(Either.<Integer, String>lazyRight(new Callable<String>() {
+                        @Override
+                        public String call() {
+                            throw error;
+                        }
+                    }));
+                    o.onNext(Either.<Integer, String>right("b"));
+                    o.onError(late);
+                }
+            };
+            EitherPartition<Integer, String> partition = RxEither.partition(source);
+
+            TestObserver<Integer> left = partition.left().test();
+            TestObserver<String> right = partition.right().test();
+
+            right.assertFailure(IllegalStateException.class);
+            left.assertFailure(IllegalStateException.class);
+            assertThat(undeliverable).containsExactly(late);
+        } finally {
+            RxJavaPlugins.reset();
+        }
+    }
+
+    @Test
+    public void partitionSideAllowsSingleObserver() {
+        EitherPartition<EventA, EventB> partition =
+                RxEither.partition(RxEither.from(eventASubject, eventBSubject));
+
+        partition.left().test();
+
+        partition.left().test().assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void fromIntUnboxesLeft() throws Exception {
+        PublishSubject<Integer> progress = PublishSubject.create();
+        IntConsumer onProgress = mock(IntConsumer.class);
+        TestObserver<EventB> subscriber =
+                RxEither.filterRight(RxEither.fromInt(progress, eventBSubject), onProgress).test();
+
+        progress.onNext(50);
+        eventBSubject.onNext(eventB);
+
+        verify(onProgress).accept(50);
+        subscriber.assertValue(eventB);
+    }
+
+    @Test
+    public void fromIntWorksWithGenericFilters() {
+        PublishSubject<Integer> progress = PublishSubject.create();
+        TestObserver<Integer> subscriber =
+                RxEither.filterLeft(RxEither.fromInt(progress, eventBSubject)).test();
+
+        progress.onNext(50);
+        eventBSubject.onNext(eventB);
+
+        subscriber.assertValue(50);
+    }
+
+    @Test
+    public void createIntEmitsUnboxedLeft() throws Exception {
+        IntConsumer onProgress = mock(IntConsumer.class);
+        TestObserver<EventB> subscriber = RxEither.filterRight(
+                RxEither.createInt(new IntLeftEither.OnSubscribe<EventB>() {
+                    @Override
+                    public void subscribe(IntLeftEither.Emitter<EventB> emitter) {
+                        emitter.onLeft(50);
+                        emitter.onRight(eventB);
+                        emitter.onComplete();
+                    }
+                }), onProgress).test();
+
+        verify(onProgress).accept(50);
+        subscriber.assertResult(eventB);
+    }
+
+    @Test
+    public void filterRightFailsWithLeftConsumerError() {
+        final Exception error = new Exception();
+        TestObserver<EventB> subscriber = RxEither.filterRight(
+                Observable.just(LongLeftEither.<EventB>ofLeft(1L), LongLeftEither.ofRight(eventB)),
+                new LongConsumer() {
+                    @Override
+                    public void accept(long value) throws Exception {
+                        throw error;
+                    }
+                }).test();
+
+        subscriber.assertFailure(Exception.class);
+        assertThat(subscriber.errors()).containsExactly(error);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void continuedIntLazy() throws Exception {
+        IntConsumer onProgress = mock(IntConsumer.class);
+        Consumer<EventB> eventBAction = mock(Consumer.class);
+
+        Observable.just(IntLeftEither.<EventB>ofLeft(1), IntLeftEither.ofRight(eventB))
+                .subscribe(RxEither.continuedIntLazy(onProgress, eventBAction));
+
+        verify(onProgress).accept(1);
+        verify(eventBAction).accept(eventB);
+    }
+
+    @Test
+    public void mapRightPassesLeftInstancesThrough() {
+        Either<Integer, String> left = Either.left(1);
+        Observable<Either<Integer, String>> source =
+                Observable.just(left, Either.<Integer, String>right("a"));
+
+        TestObserver<Either<Integer, Integer>> subscriber =
+                RxEither.mapRight(source, new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String value) {
+                        return value.length();
+                    }
+                }).test();
+
+        subscriber.assertResult(Either.<Integer, Integer>left(1),
+                Either.<Integer, Integer>right(1));
+        assertThat(subscriber.values().get(0)).isSameAs(left);
+    }
+
+    @Test
+    public void bimapFusesWithFilterAcrossObserveOn() {
+        Observable<Either<Integer, String>> source = Observable.fromIterable(Arrays.asList(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2), Either.<Integer, String>right("bb")));
+
+        Observable<Either<Integer, Integer>> mapped = RxEither.bimap(source,
+                new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        return -value;
+                    }
+                }, new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String value) {
+                        return value.length();
+                    }
+                });
+
+        RxEither.filterLeft(mapped)
+                .observeOn(Schedulers.single())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(-1, -2);
+    }
+
+    @Test
+    public void flatMapRightErrorTerminates() {
+        final Exception error = new Exception();
+        Observable<Either<Integer, String>> source = Observable.just(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2));
+
+        TestObserver<Either<Integer, String>> subscriber = RxEither.flatMapRight(source,
+                new Function<String, Either<Integer, String>>() {
+                    @Override
+                    public Either<Integer, String> apply(String value) throws Exception {
+                        throw error;
+                    }
+                }).test();
+
+        subscriber.assertFailure(Exception.class, Either.<Integer, String>left(1));
+        assertThat(subscriber.errors()).containsExactly(error);
+    }
+
+    @Test
+    public void flowableSingleLeft() {
+        TestSubscriber<Either<EventA, EventB>> subscriber =
+                RxEither.<EventA, EventB>left(eventAProcessor).test();
+
+        eventAProcessor.onNext(eventA);
+
+        subscriber.assertNoErrors();
+        subscriber.assertNotComplete();
+        subscriber.assertValue(Either.<EventA, EventB>left(eventA));
+    }
+
+    @Test
+    public void flowableSingleRight() {
+        TestSubscriber<Either<EventA, EventB>> subscriber =
+                RxEither.<EventA, EventB>right(eventBProcessor).test();
+
+        eventBProcessor.onNext(eventB);
+
+        subscriber.assertNoErrors();
+        subscriber.assertNotComplete();
+        subscriber.assertValue(Either.<EventA, EventB>right(eventB));
+    }
+
+    @Test
+    public void flowableErrorLeftBlockRight() {
+        Throwable error = new Throwable();
+        TestSubscriber<Either<EventA, EventB>> subscriber =
+                RxEither.from(eventAProcessor, eventBProcessor).test();
+
+        eventAProcessor.onError(error);
+        eventBProcessor.onNext(eventB);
+
+        subscriber.assertError(error);
+        subscriber.assertNotComplete();
+        subscriber.assertNoValues();
+        assertThat(eventBProcessor.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    public void flowableHonorsDownstreamDemand() {
+        final List<Long> requests = new ArrayList<>();
+        Flowable<Integer> left = Flowable.range(0, 1000)
+                .doOnRequest(new io.reactivex.functions.LongConsumer() {
+                    @Override
+                    public void accept(long n) {
+                        requests.add(n);
+                    }
+                });
+        TestSubscriber<Either<Integer, String>> subscriber =
+                RxEither.from(left, Flowable.<String>never(), 16).test(0);
+
+        subscriber.assertNoValues();
+        assertThat(requests).containsExactly(16L);
+
+        subscriber.request(5);
+
+        subscriber.assertValueCount(5);
+        assertThat(requests).containsExactly(16L);
+
+        subscriber.request(7);
+
+        subscriber.assertValueCount(12);
+        assertThat(requests).containsExactly(16L, 12L).inOrder();
+    }
+
+    @Test
+    public void flowableRightPriorityDrainsRightQueueFirst() {
+        PublishProcessor<Integer> left = PublishProcessor.create();
+        PublishProcessor<String> right = PublishProcessor.create();
+        TestSubscriber<Either<Integer, String>> subscriber =
+                RxEither.from(left, right, Priority.RIGHT).test(0);
+
+        left.onNext(1);
+        left.onNext(2);
+        right.onNext("a");
+        right.onNext("b");
+        subscriber.request(3);
+
+        subscriber.assertValues(Either.<Integer, String>right("a"),
+                Either.<Integer, String>right("b"), Either.<Integer, String>left(1));
+    }
+
+    @Test
+    public void flowableCompletesAfterQueuedValues() {
+        TestSubscriber<Either<Integer, String>> subscriber =
+                RxEither.from(Flowable.range(0, 3), Flowable.<String>empty()).test(0);
+
+        subscriber.assertNotComplete();
+
+        subscriber.request(3);
+
+        subscriber.assertValues(Either.<Integer, String>left(0), Either.<Integer, String>left(1),
+                Either.<Integer, String>left(2));
+        subscriber.assertComplete();
+    }
+
+    @Test
+    public void flowableFilterLeft() {
+        TestSubscriber<EventA> subscriber =
+                RxEither.filterLeft(RxEither.from(eventAProcessor, eventBProcessor)).test();
+
+        eventAProcessor.onNext(eventA);
+        eventBProcessor.onNext(eventB);
+
+        subscriber.assertNoErrors();
+        subscriber.assertNotComplete();
+        subscriber.assertValue(eventA);
+    }
+
+    @Test
+    public void flowableFilterRight() {
+        TestSubscriber<EventB> subscriber =
+                RxEither.filterRight(RxEither.from(eventAProcessor, eventBProcessor)).test();
+
+        eventAProcessor.onNext(eventA);
+        eventBProcessor.onNext(eventB);
+
+        subscriber.assertNoErrors();
+        subscriber.assertNotComplete();
+        subscriber.assertValue(eventB);
+    }
+
+    @Test
+    public void flowableFilterLeftSkipsRightWithoutDemand() {
+        Flowable<Either<Integer, String>> source = Flowable.fromIterable(Arrays.asList(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>right("b"), Either.<Integer, String>left(2)));
+
+        TestSubscriber<Integer> subscriber = RxEither.filterLeft(source).test(1);
+
+        subscriber.assertValue(1);
+        subscriber.assertNotComplete();
+
+        subscriber.request(1);
+
+        subscriber.assertResult(1, 2);
+    }
+
+    @Test
+    public void flowableFilterRightAcrossObserveOn() {
+        Flowable<Either<Integer, String>> source = Flowable.fromIterable(Arrays.asList(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"),
+                Either.<Integer, String>left(2), Either.<Integer, String>right("b")));
+
+        RxEither.filterRight(source)
+                .observeOn(Schedulers.single())
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult("a", "b");
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void continuedLazy() throws Exception {
@@ -112,6 +1642,48 @@ public final class RxEitherTest {
         verify(eventBAction).accept(eventB);
     }
 
+    @Test
+    public void joinLazyErrorReachesOnErrorUnwrapped() {
+        final Exception error = new Exception();
+        Observable<Either<Integer, String>> source = Observable.just(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"));
+
+        TestObserver<Integer> subscriber = source.map(RxEither.joinLazy(
+                new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        return value;
+                    }
+                },
+                new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String value) throws Exception {
+                        throw error;
+                    }
+                }))
+                .test();
+
+        subscriber.assertFailure(Exception.class, 1);
+        assertThat(subscriber.errors()).containsExactly(error);
+    }
+
+    @Test
+    public void continuedIntLazyErrorReachesOnErrorUnwrapped() {
+        final Exception error = new Exception();
+        TestObserver<IntLeftEither<String>> subscriber = TestObserver.create();
+
+        RxEither.fromInt(Observable.just(1), Observable.<String>never())
+                .doOnNext(RxEither.continuedIntLazy(new IntConsumer() {
+                    @Override
+                    public void accept(int value) throws Exception {
+                        throw error;
+                    }
+                }, Functions.<String>emptyConsumer()))
+                .subscribe(subscriber);
+
+        assertThat(subscriber.errors()).containsExactly(error);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void joinLazy() throws Exception {
@@ -132,4 +1704,233 @@ public final class RxEitherTest {
 
         verify(eventAAction, times(2)).accept(eventA);
     }
+
+    @Test
+    public void parallelFilter() {
+        Flowable<Either<String, Integer>> either = Flowable.just(
+                Either.<String, Integer>left("a"), Either.<String, Integer>right(1),
+                Either.<String, Integer>left("b"), Either.<String, Integer>right(2));
+
+        RxEither.filterRight(either.parallel(2))
+                .sequential()
+                .test()
+                .assertResult(1, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parallelRails() {
+        Flowable<Either<String, Integer>> either = Flowable.just(
+                Either.<String, Integer>left("a"), Either.<String, Integer>right(1),
+                Either.<String, Integer>left("b"), Either.<String, Integer>right(2));
+        TestSubscriber<Either<String, Integer>> leftRail = TestSubscriber.create();
+        TestSubscriber<Either<String, Integer>> rightRail = TestSubscriber.create();
+
+        RxEither.parallel(either, 1, 1).subscribe(new TestSubscriber[] {leftRail, rightRail});
+
+        leftRail.assertResult(Either.<String, Integer>left("a"), Either.<String, Integer>left("b"));
+        rightRail.assertResult(Either.<String, Integer>right(1), Either.<String, Integer>right(2));
+    }
+
+    @Test
+    public void joinLazyOrdered() {
+        Flowable<Either<Integer, String>> either = Flowable.range(0, 100)
+                .map(new Function<Integer, Either<Integer, String>>() {
+                    @Override
+                    public Either<Integer, String> apply(Integer value) {
+                        return value % 2 == 0
+                                ? Either.<Integer, String>left(value)
+                                : Either.<Integer, String>right(String.valueOf(value));
+                    }
+                });
+
+        RxEither.joinLazyOrdered(either, Functions.<Integer>identity(),
+                new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String value) {
+                        return Integer.valueOf(value);
+                    }
+                }, 4, Schedulers.computation())
+                .toList()
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(Flowable.range(0, 100).toList().blockingGet());
+    }
+
+    @Test
+    public void flatMapLeftObservablePassesRightsThrough() {
+        final Subject<String> inner = PublishSubject.create();
+        Observable<Either<Integer, String>> either = Observable.just(
+                Either.<Integer, String>left(1), Either.<Integer, String>right("a"));
+
+        TestObserver<Either<String, String>> observer = RxEither.flatMapLeftObservable(either,
+                new Function<Integer, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(Integer value) {
+                        return inner;
+                    }
+                }, 1).test();
+
+        observer.assertValue(Either.<String, String>right("a")).assertNotComplete();
+        inner.onNext("b");
+        inner.onComplete();
+        observer.assertResult(Either.<String, String>right("a"), Either.<String, String>left("b"));
+    }
+
+    @Test
+    public void flatMapBothLimitsEachSideSeparately() {
+        final List<Subject<String>> lefts = new ArrayList<>();
+        final List<Subject<Integer>> rights = new ArrayList<>();
+        Observable<Either<Integer, String>> either = Observable.just(
+                Either.<Integer, String>left(1), Either.<Integer, String>left(2),
+                Either.<Integer, String>right("a"), Either.<Integer, String>right("b"));
+
+        TestObserver<Either<String, Integer>> observer = RxEither.flatMapBoth(either,
+                new Function<Integer, Observable<String>>() {
+                    @Override
+                    public Observable<String> apply(Integer value) {
+                        final Subject<String> inner = PublishSubject.create();
+                        return inner.doOnSubscribe(new Consumer<Disposable>() {
+                            @Override
+                            public void accept(Disposable d) {
+                                lefts.add(inner);
+                            }
+                        });
+                    }
+                }, 1, new Function<String, Observable<Integer>>() {
+                    @Override
+                    public Observable<Integer> apply(String value) {
+                        final Subject<Integer> inner = PublishSubject.create();
+                        return inner.doOnSubscribe(new Consumer<Disposable>() {
+                            @Override
+                            public void accept(Disposable d) {
+                                rights.add(inner);
+                            }
+                        });
+                    }
+                }, 2).test();
+
+        assertThat(lefts).hasSize(1);
+        assertThat(rights).hasSize(2);
+
+        lefts.get(0).onComplete();
+        assertThat(lefts).hasSize(2);
+
+        rights.get(1).onNext(2);
+        lefts.get(1).onNext("x");
+        lefts.get(1).onComplete();
+        rights.get(0).onComplete();
+        observer.assertNotComplete();
+        rights.get(1).onComplete();
+        observer.assertResult(Either.<String, Integer>right(2), Either.<String, Integer>left("x"));
+    }
+
+    @Test
+    public void collectPartitioned() {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Either<String, Integer>> either = Observable.just(
+                Either.<String, Integer>left("a"), Either.<String, Integer>right(1),
+                Either.<String, Integer>left("b"))
+                .doOnSubscribe(new Consumer<Disposable>() {
+                    @Override
+                    public void accept(Disposable d) {
+                        subscriptions.incrementAndGet();
+                    }
+                });
+
+        Partitioned<List<String>, List<Integer>> partitioned =
+                RxEither.collectPartitioned(either).blockingGet();
+
+        assertThat(partitioned.left()).containsExactly("a", "b").inOrder();
+        assertThat(partitioned.right()).containsExactly(1);
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void collectPartitionedIntoSuppliedCollections() {
+        Observable<Either<String, Integer>> either = Observable.just(
+                Either.<String, Integer>left("b"), Either.<String, Integer>right(2),
+                Either.<String, Integer>left("a"), Either.<String, Integer>right(2));
+
+        Partitioned<TreeSet<String>, HashSet<Integer>> partitioned = RxEither.collectPartitioned(
+                either, new Callable<TreeSet<String>>() {
+                    @Override
+                    public TreeSet<String> call() {
+                        return new TreeSet<>();
+                    }
+                }, new Callable<HashSet<Integer>>() {
+                    @Override
+                    public HashSet<Integer> call() {
+                        return new HashSet<>();
+                    }
+                }).blockingGet();
+
+        assertThat(partitioned.left()).containsExactly("a", "b").inOrder();
+        assertThat(partitioned.right()).containsExactly(2);
+    }
+
+    @Test
+    public void collectPartitionedError() {
+        final RuntimeException error = new RuntimeException();
+        Observable<Either<String, Integer>> either = Observable.just(
+                Either.<String, Integer>left("a"),
+                Either.<String, Integer>lazyRight(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        throw error;
+                    }
+                }));
+
+        RxEither.collectPartitioned(either).test().assertFailure(RuntimeException.class);
+    }
+
+    @Test
+    public void countPartitioned() {
+        Observable<Either<String, Integer>> either = Observable.just(
+                Either.<String, Integer>left("a"), Either.<String, Integer>right(1),
+                Either.<String, Integer>lazyRight(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        throw new AssertionError();
+                    }
+                }));
+
+        RxEither.countPartitioned(either).test().assertResult(new EitherSummary(1, 2, 0, 0));
+    }
+
+    @Test
+    public void summarizePartitioned() {
+        Observable<Either<String, Integer>> either = Observable.just(
+                Either.<String, Integer>left("abc"), Either.<String, Integer>right(5),
+                Either.<String, Integer>right(7));
+
+        RxEither.summarizePartitioned(either, new ToLongFunction<String>() {
+            @Override
+            public long apply(String value) {
+                return value.length();
+            }
+        }, new ToLongFunction<Integer>() {
+            @Override
+            public long apply(Integer value) {
+                return value;
+            }
+        }).test().assertResult(new EitherSummary(1, 2, 3, 12));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Function<String, Character> firstChar() {
+        return new Function<String, Character>() {
+            @Override
+            public Character apply(String value) {
+                return value.charAt(0);
+            }
+        };
+    }
 }
@@ -2,7 +2,7 @@ package net.jokubasdargis.rxeither.example;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
-import net.jokubasdargis.rxeither.Either;
+import net.jokubasdargis.rxeither.EitherPartition;
 import net.jokubasdargis.rxeither.RxEither;
 
 import io.reactivex.Observable;
@@ -25,15 +25,16 @@ public class ProgressExample {
             }
         }).subscribeOn(Schedulers.io());
 
-        Observable<Either<Integer, String>> either = RxEither.from(progress, results).share();
+        EitherPartition<Integer, String> either =
+                RxEither.partition(RxEither.from(progress, results));
 
-        RxEither.filterLeft(either).subscribe(new Consumer<Integer>() {
+        either.left().subscribe(new Consumer<Integer>() {
             @Override
             public void accept(Integer integer) throws Exception {
                 System.out.println("Progress: " + integer);
             }
         });
-        String result = RxEither.filterRight(either).blockingSingle();
+        String result = either.right().blockingSingle();
         System.out.println("Results: " + result);
     }
 